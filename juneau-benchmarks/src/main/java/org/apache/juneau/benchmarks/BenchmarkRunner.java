@@ -0,0 +1,54 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import org.openjdk.jmh.profile.*;
+import org.openjdk.jmh.results.format.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Entry point for <code>benchmarks.jar</code>.
+ *
+ * <p>
+ * Accepts the standard JMH command line options, but always attaches the GC profiler so that allocation rates
+ * (<code>gc.alloc.rate.norm</code>) are reported next to throughput, and writes machine-readable results to
+ * <code>jmh-result.json</code> (or the file specified by <code>-rff</code>) so that runs against different Juneau
+ * versions can be compared.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Run all JSON benchmarks against the LIST shape.</jc>
+ * 	java -jar target/benchmarks.jar JsonBenchmark -p shape=LIST
+ * </p>
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * Runs the benchmarks.
+	 *
+	 * @param args JMH command line options.
+	 * @throws Exception If the command line could not be parsed or the benchmarks failed.
+	 */
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cl = new CommandLineOptions(args);
+		ChainedOptionsBuilder ob = new OptionsBuilder()
+			.parent(cl)
+			.addProfiler(GCProfiler.class);
+		if (! cl.getResultFormat().hasValue())
+			ob.resultFormat(ResultFormatType.JSON);
+		if (! cl.getResult().hasValue())
+			ob.result("jmh-result.json");
+		new Runner(ob.build()).run();
+	}
+}
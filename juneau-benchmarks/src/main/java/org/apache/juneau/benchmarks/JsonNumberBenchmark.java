@@ -0,0 +1,104 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for writing and reading numbers with {@link JsonSerializer} and {@link JsonParser}.
+ *
+ * <p>
+ * Uses a time series of 1000 timestamps and 1000 readings with two fraction digits so that the measurement is
+ * dominated by number formatting and parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class JsonNumberBenchmark {
+
+	/** The kind of numbers being serialized. */
+	public enum Numbers {
+
+		/** Millisecond timestamps. */
+		LONG(long[].class),
+
+		/** Readings with two fraction digits. */
+		DOUBLE(double[].class);
+
+		private final Class<?> type;
+
+		private Numbers(Class<?> type) {
+			this.type = type;
+		}
+	}
+
+	/** The kind of numbers being serialized. */
+	@Param
+	public Numbers numbers;
+
+	private WriterSerializer serializer;
+	private ReaderParser parser;
+	private Object pojo;
+	private String json;
+
+	/**
+	 * Creates the numbers being serialized.
+	 *
+	 * @throws Exception Serialization error.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		serializer = JsonSerializer.DEFAULT;
+		parser = JsonParser.DEFAULT;
+		Random r = new Random(0);
+		long[] timestamps = new long[1000];
+		double[] readings = new double[1000];
+		for (int i = 0; i < 1000; i++) {
+			timestamps[i] = 1500000000000L + i * 60000L;
+			readings[i] = Math.round(r.nextGaussian() * 100000) / 100.0;
+		}
+		pojo = (numbers == Numbers.LONG ? timestamps : readings);
+		json = serializer.serialize(pojo);
+	}
+
+	/**
+	 * Serializes the numbers.
+	 *
+	 * @return The serialized output.
+	 * @throws Exception Serialization error.
+	 */
+	@Benchmark
+	public Object serialize() throws Exception {
+		return serializer.serialize(pojo);
+	}
+
+	/**
+	 * Parses the numbers.
+	 *
+	 * @return The parsed output.
+	 * @throws Exception Parse error.
+	 */
+	@Benchmark
+	public Object parse() throws Exception {
+		return parser.parse(json, numbers.type);
+	}
+}
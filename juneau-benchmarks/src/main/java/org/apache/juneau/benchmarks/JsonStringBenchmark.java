@@ -0,0 +1,82 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.serializer.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for writing string values with {@link JsonSerializer}.
+ *
+ * <p>
+ * Serializes an array of 1000 strings of about 40 characters so that the measurement is dominated by string escaping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class JsonStringBenchmark {
+
+	/** The kind of strings being serialized. */
+	public enum Strings {
+
+		/** ASCII text with nothing to escape. */
+		ASCII("The quick brown fox jumps over the lazy "),
+
+		/** ASCII text with a quote and a newline in each string. */
+		ASCII_ESCAPED("The \"quick\" brown fox jumps over the\n "),
+
+		/** Non-ASCII text with nothing to escape. */
+		NON_ASCII("Der schnelle braune Fuchs springt über 中文");
+
+		private final String text;
+
+		private Strings(String text) {
+			this.text = text;
+		}
+	}
+
+	/** The kind of strings being serialized. */
+	@Param
+	public Strings strings;
+
+	private WriterSerializer serializer;
+	private String[] pojo;
+
+	/**
+	 * Creates the strings being serialized.
+	 */
+	@Setup
+	public void setup() {
+		serializer = JsonSerializer.DEFAULT;
+		pojo = new String[1000];
+		Arrays.fill(pojo, strings.text);
+	}
+
+	/**
+	 * Serializes the strings.
+	 *
+	 * @return The serialized output.
+	 * @throws Exception Serialization error.
+	 */
+	@Benchmark
+	public Object serialize() throws Exception {
+		return serializer.serialize(pojo);
+	}
+}
@@ -0,0 +1,105 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Base class for benchmarks that measure a single serializer/parser pair.
+ *
+ * <p>
+ * Subclasses only need to provide the serializer and parser to test.
+ * <br>Every benchmark is run against each of the {@link Shape} bean graphs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public abstract class MarshallBenchmark {
+
+	/** The bean graph being serialized and parsed. */
+	@Param
+	public Shape shape;
+
+	private Serializer serializer;
+	private Parser parser;
+	private Object pojo;
+	private Object serialized;
+
+	/**
+	 * Returns the serializer being measured.
+	 *
+	 * @return The serializer.
+	 */
+	protected abstract Serializer getSerializer();
+
+	/**
+	 * Returns the parser being measured.
+	 *
+	 * @return The parser.
+	 */
+	protected abstract Parser getParser();
+
+	/**
+	 * Creates the bean graph and its serialized form.
+	 *
+	 * @throws Exception If the bean graph could not be serialized.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		serializer = getSerializer();
+		parser = getParser();
+		pojo = shape.create();
+		serialized = serializer.serialize(pojo);
+	}
+
+	/**
+	 * Serializes the bean graph.
+	 *
+	 * @return The serialized output.
+	 * @throws Exception Serialization error.
+	 */
+	@Benchmark
+	public Object serialize() throws Exception {
+		return serializer.serialize(pojo);
+	}
+
+	/**
+	 * Parses the pre-serialized bean graph.
+	 *
+	 * @return The parsed bean.
+	 * @throws Exception Parse error.
+	 */
+	@Benchmark
+	public Object parse() throws Exception {
+		return parser.parse(serialized, shape.getType());
+	}
+
+	/**
+	 * Serializes the bean graph and parses it back.
+	 *
+	 * @return The parsed bean.
+	 * @throws Exception Serialization or parse error.
+	 */
+	@Benchmark
+	public Object roundTrip() throws Exception {
+		Object o = serializer.serialize(pojo);
+		return parser.parse(o, shape.getType());
+	}
+}
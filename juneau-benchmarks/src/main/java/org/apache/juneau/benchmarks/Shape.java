@@ -0,0 +1,75 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import org.apache.juneau.benchmarks.beans.*;
+
+/**
+ * The bean graphs that are run through every serializer/parser pair.
+ */
+public enum Shape {
+
+	/** A single bean with simple properties. */
+	FLAT(FlatBean.class) {
+		@Override
+		public Object create() {
+			return new FlatBean().init(1);
+		}
+	},
+
+	/** A chain of 20 nested beans. */
+	DEEP(DeepBean.class) {
+		@Override
+		public Object create() {
+			return new DeepBean().init(20);
+		}
+	},
+
+	/** A bean containing a list of 1000 beans. */
+	LIST(ListBean.class) {
+		@Override
+		public Object create() {
+			return new ListBean().init(1000);
+		}
+	},
+
+	/** A bean containing two maps with 500 keys each. */
+	MAP(MapBean.class) {
+		@Override
+		public Object create() {
+			return new MapBean().init(500);
+		}
+	};
+
+	private final Class<?> type;
+
+	private Shape(Class<?> type) {
+		this.type = type;
+	}
+
+	/**
+	 * Returns the class to pass to the parser when parsing this shape.
+	 *
+	 * @return The bean class.
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * Creates a new populated instance of this shape.
+	 *
+	 * @return A new bean.
+	 */
+	public abstract Object create();
+}
@@ -0,0 +1,66 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.xml.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for {@link XmlSerializer} with namespaces enabled and auto-detected.
+ *
+ * <p>
+ * Compares crawling the bean graph for namespaces before serializing it with detecting them from the class metadata
+ * (see {@link XmlSerializer#XML_detectNamespacesFromTypes}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class XmlNamespaceBenchmark {
+
+	/** The bean graph being serialized. */
+	@Param
+	public Shape shape;
+
+	/** Whether namespaces are detected from the class metadata instead of crawling the bean graph. */
+	@Param({"false", "true"})
+	public boolean fromTypes;
+
+	private WriterSerializer serializer;
+	private Object pojo;
+
+	/**
+	 * Creates the serializer and the bean graph being serialized.
+	 */
+	@Setup
+	public void setup() {
+		serializer = XmlSerializer.create().ns().addNamespaceUrisToRoot().detectNamespacesFromTypes(fromTypes).build();
+		pojo = shape.create();
+	}
+
+	/**
+	 * Serializes the bean graph.
+	 *
+	 * @return The serialized output.
+	 * @throws Exception Serialization error.
+	 */
+	@Benchmark
+	public Object serialize() throws Exception {
+		return serializer.serialize(pojo);
+	}
+}
@@ -0,0 +1,83 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.xml.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for {@link XmlSerializer} writing directly to an {@link OutputStream}, such as a servlet response.
+ *
+ * <p>
+ * The target stream discards its output but synchronizes each write call like most stream implementations do, so
+ * the measurement includes the cost of the number of calls made to the stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class XmlStreamBenchmark {
+
+	/** The bean graph being serialized. */
+	@Param
+	public Shape shape;
+
+	private WriterSerializer serializer;
+	private Object pojo;
+	private DiscardingOutputStream out;
+
+	/**
+	 * Creates the bean graph being serialized.
+	 */
+	@Setup
+	public void setup() {
+		serializer = XmlSerializer.DEFAULT;
+		pojo = shape.create();
+		out = new DiscardingOutputStream();
+	}
+
+	/**
+	 * Serializes the bean graph to the stream.
+	 *
+	 * @return The number of bytes written to the stream so far.
+	 * @throws Exception Serialization error.
+	 */
+	@Benchmark
+	public long serialize() throws Exception {
+		serializer.serialize(pojo, out);
+		return out.count;
+	}
+
+	/*
+	 * Output stream that only counts the bytes written to it.
+	 */
+	private static final class DiscardingOutputStream extends OutputStream {
+		long count;
+
+		@Override /* OutputStream */
+		public synchronized void write(int b) {
+			count++;
+		}
+
+		@Override /* OutputStream */
+		public synchronized void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+}
@@ -0,0 +1,72 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.beans;
+
+/**
+ * Bean that nests instances of itself to produce a deep object graph.
+ */
+@SuppressWarnings("javadoc")
+public class DeepBean {
+
+	private int depth;
+	private String label;
+	private FlatBean value;
+	private DeepBean child;
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public void setDepth(int depth) {
+		this.depth = depth;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	public void setLabel(String label) {
+		this.label = label;
+	}
+
+	public FlatBean getValue() {
+		return value;
+	}
+
+	public void setValue(FlatBean value) {
+		this.value = value;
+	}
+
+	public DeepBean getChild() {
+		return child;
+	}
+
+	public void setChild(DeepBean child) {
+		this.child = child;
+	}
+
+	/**
+	 * Populates this bean and its descendants.
+	 *
+	 * @param depth The number of nested levels to create below this bean.
+	 * @return This object (for method chaining).
+	 */
+	public DeepBean init(int depth) {
+		this.depth = depth;
+		this.label = "level" + depth;
+		this.value = new FlatBean().init(depth);
+		if (depth > 0)
+			this.child = new DeepBean().init(depth-1);
+		return this;
+	}
+}
@@ -0,0 +1,101 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.beans;
+
+/**
+ * Bean with a flat set of simple properties accessed through getters and setters.
+ */
+@SuppressWarnings("javadoc")
+public class FlatBean {
+
+	private int id;
+	private long timestamp;
+	private double amount;
+	private boolean enabled;
+	private String name;
+	private String description;
+	private Status status;
+
+	public int getId() {
+		return id;
+	}
+
+	public void setId(int id) {
+		this.id = id;
+	}
+
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	public void setTimestamp(long timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	public double getAmount() {
+		return amount;
+	}
+
+	public void setAmount(double amount) {
+		this.amount = amount;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public void setStatus(Status status) {
+		this.status = status;
+	}
+
+	/**
+	 * Populates this bean with values derived from the specified seed.
+	 *
+	 * @param seed The seed value.
+	 * @return This object (for method chaining).
+	 */
+	public FlatBean init(int seed) {
+		this.id = seed;
+		this.timestamp = 1546300800000L + seed * 1000L;
+		this.amount = seed * 1.25d;
+		this.enabled = seed % 2 == 0;
+		this.name = "name" + seed;
+		this.description = "Description for item " + seed + " in Zürich";
+		this.status = Status.values()[seed % Status.values().length];
+		return this;
+	}
+}
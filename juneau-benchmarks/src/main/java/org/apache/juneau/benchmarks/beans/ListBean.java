@@ -0,0 +1,45 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.beans;
+
+import java.util.*;
+
+/**
+ * Bean containing a large collection of beans.
+ */
+@SuppressWarnings("javadoc")
+public class ListBean {
+
+	private List<FlatBean> items;
+
+	public List<FlatBean> getItems() {
+		return items;
+	}
+
+	public void setItems(List<FlatBean> items) {
+		this.items = items;
+	}
+
+	/**
+	 * Populates this bean.
+	 *
+	 * @param size The number of entries to add to the list.
+	 * @return This object (for method chaining).
+	 */
+	public ListBean init(int size) {
+		this.items = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+			this.items.add(new FlatBean().init(i));
+		return this;
+	}
+}
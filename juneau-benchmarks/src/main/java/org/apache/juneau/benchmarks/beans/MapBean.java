@@ -0,0 +1,57 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.beans;
+
+import java.util.*;
+
+/**
+ * Bean containing maps with many keys.
+ */
+@SuppressWarnings("javadoc")
+public class MapBean {
+
+	private Map<String,String> strings;
+	private Map<String,Integer> numbers;
+
+	public Map<String,String> getStrings() {
+		return strings;
+	}
+
+	public void setStrings(Map<String,String> strings) {
+		this.strings = strings;
+	}
+
+	public Map<String,Integer> getNumbers() {
+		return numbers;
+	}
+
+	public void setNumbers(Map<String,Integer> numbers) {
+		this.numbers = numbers;
+	}
+
+	/**
+	 * Populates this bean.
+	 *
+	 * @param size The number of keys to add to each map.
+	 * @return This object (for method chaining).
+	 */
+	public MapBean init(int size) {
+		this.strings = new LinkedHashMap<>();
+		this.numbers = new LinkedHashMap<>();
+		for (int i = 0; i < size; i++) {
+			this.strings.put("key" + i, "value" + i);
+			this.numbers.put("key" + i, i);
+		}
+		return this;
+	}
+}
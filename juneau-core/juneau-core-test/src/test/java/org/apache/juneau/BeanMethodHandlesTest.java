@@ -0,0 +1,260 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+/**
+ * Tests for the {@link BeanContext#BEAN_useMethodHandles} setting.
+ */
+@SuppressWarnings({"unchecked","rawtypes"})
+public class BeanMethodHandlesTest {
+
+	static final BeanSession session = BeanContext.create().useMethodHandles().build().createSession();
+
+	//====================================================================================================
+	// Getters and setters
+	//====================================================================================================
+	public static class A {
+		private int f1;
+		private String f2;
+		private List<String> f3;
+
+		public int getF1() {
+			return f1;
+		}
+		public void setF1(int f1) {
+			this.f1 = f1;
+		}
+		public String getF2() {
+			return f2;
+		}
+		public void setF2(String f2) {
+			this.f2 = f2;
+		}
+		public List<String> getF3() {
+			return f3;
+		}
+		public void setF3(List<String> f3) {
+			this.f3 = f3;
+		}
+	}
+
+	@Test
+	public void a01_gettersAndSetters() throws Exception {
+		A a = new A();
+		BeanMap<A> m = session.toBeanMap(a);
+		m.put("f1", 1);
+		m.put("f2", "foo");
+		m.put("f3", Arrays.asList("bar","baz"));
+		assertEquals(1, a.f1);
+		assertEquals("foo", a.f2);
+		assertEquals(Arrays.asList("bar","baz"), a.f3);
+		assertEquals(1, m.get("f1"));
+		assertEquals("foo", m.get("f2"));
+
+		// Setting a primitive to null sets the default value.
+		m.put("f1", null);
+		assertEquals(0, m.get("f1"));
+	}
+
+	//====================================================================================================
+	// Public fields
+	//====================================================================================================
+	public static class B {
+		public int f1;
+		public String f2;
+		public final String f3 = "foo";
+	}
+
+	@Test
+	public void b01_fields() throws Exception {
+		B b = new B();
+		BeanMap<B> m = session.toBeanMap(b);
+		m.put("f1", 2);
+		m.put("f2", "bar");
+		assertEquals(2, b.f1);
+		assertEquals("bar", b.f2);
+		assertEquals(2, m.get("f1"));
+		assertEquals("bar", m.get("f2"));
+	}
+
+	//====================================================================================================
+	// Fluent setters
+	//====================================================================================================
+	@Bean(fluentSetters=true)
+	public static class C {
+		private int f1;
+
+		public int getF1() {
+			return f1;
+		}
+		public C f1(int f1) {
+			this.f1 = f1;
+			return this;
+		}
+	}
+
+	@Test
+	public void c01_fluentSetters() throws Exception {
+		C c = new C();
+		session.toBeanMap(c).put("f1", 3);
+		assertEquals(3, c.f1);
+	}
+
+	//====================================================================================================
+	// Exceptions thrown by getters and setters.
+	//====================================================================================================
+	public static class D {
+		public String getF1() {
+			throw new RuntimeException("getter");
+		}
+		public void setF1(String f1) {
+			throw new RuntimeException("setter");
+		}
+	}
+
+	@Test
+	public void d01_exceptions() throws Exception {
+		BeanMap<D> m = session.toBeanMap(new D());
+		try {
+			m.get("f1");
+			fail();
+		} catch (BeanRuntimeException e) {
+			assertEquals("getter", rootCause(e).getMessage());
+		}
+		try {
+			m.put("f1", "foo");
+			fail();
+		} catch (BeanRuntimeException e) {
+			assertEquals("setter", rootCause(e).getMessage());
+		}
+	}
+
+	//====================================================================================================
+	// Varargs setters.
+	//====================================================================================================
+	public static class E {
+		private String[] f1;
+
+		public String[] getF1() {
+			return f1;
+		}
+		public void setF1(String...f1) {
+			this.f1 = f1;
+		}
+	}
+
+	@Test
+	public void e01_varargsSetter() throws Exception {
+		E e = new E();
+		session.toBeanMap(e).put("f1", new String[]{"foo","bar"});
+		assertArrayEquals(new String[]{"foo","bar"}, e.f1);
+	}
+
+	//====================================================================================================
+	// Handles are created for each property and used in place of reflection.
+	//====================================================================================================
+	public static class G {
+		private boolean reflected;
+
+		public String getF1() {
+			reflected = isCalledReflectively();
+			return "foo";
+		}
+		public void setF1(String f1) {
+			reflected = isCalledReflectively();
+		}
+	}
+
+	@Test
+	public void g01_handlesCreated() throws Exception {
+		BeanMeta<A> bm = session.getBeanMeta(A.class);
+		for (String p : new String[]{"f1","f2","f3"}) {
+			assertTrue(p, bm.getPropertyMeta(p).hasGetterHandle());
+			assertTrue(p, bm.getPropertyMeta(p).hasSetterHandle());
+		}
+
+		BeanPropertyMeta bpm = session.getBeanMeta(B.class).getPropertyMeta("f1");
+		assertTrue(bpm.hasGetterHandle());
+		assertTrue(bpm.hasSetterHandle());
+
+		// Handles are only created when the setting is enabled.
+		bpm = BeanContext.DEFAULT.createSession().getBeanMeta(A.class).getPropertyMeta("f1");
+		assertFalse(bpm.hasGetterHandle());
+		assertFalse(bpm.hasSetterHandle());
+	}
+
+	@Test
+	public void g02_handlesUsed() throws Exception {
+		G g = new G();
+		BeanMap<G> m = session.toBeanMap(g);
+		m.get("f1");
+		assertFalse(g.reflected);
+		m.put("f1", "bar");
+		assertFalse(g.reflected);
+
+		m = BeanContext.DEFAULT.createSession().toBeanMap(g);
+		m.get("f1");
+		assertTrue(g.reflected);
+		g.reflected = false;
+		m.put("f1", "bar");
+		assertTrue(g.reflected);
+	}
+
+	// Method handle frames are hidden from stack traces, so a getter or setter called through a handle appears to
+	// be called directly from BeanPropertyMeta.
+	private static boolean isCalledReflectively() {
+		StackTraceElement[] st = new Throwable().getStackTrace();
+		int i = 0;
+		while (! st[i].getClassName().equals(G.class.getName()))
+			i++;
+		return ! st[i+1].getClassName().equals(BeanPropertyMeta.class.getName());
+	}
+
+	private static Throwable rootCause(Throwable t) {
+		while (t.getCause() != null)
+			t = t.getCause();
+		return t;
+	}
+
+	//====================================================================================================
+	// Round-trip serialization.
+	//====================================================================================================
+	@Test
+	public void f01_roundTrip() throws Exception {
+		JsonSerializer s = JsonSerializer.create().ssq().sortProperties().useMethodHandles().build();
+		JsonParser p = JsonParser.create().useMethodHandles().build();
+
+		A a = new A();
+		a.f1 = 1;
+		a.f2 = "foo";
+		a.f3 = Arrays.asList("bar");
+		String json = s.serialize(a);
+		assertEquals("{f1:1,f2:'foo',f3:['bar']}", json);
+
+		a = p.parse(json, A.class);
+		assertEquals(1, a.f1);
+		assertEquals("foo", a.f2);
+		assertEquals(Arrays.asList("bar"), a.f3);
+
+		B b = p.parse("{f1:2,f2:'bar'}", B.class);
+		assertEquals("{f1:2,f2:'bar',f3:'foo'}", s.serialize(b));
+	}
+}
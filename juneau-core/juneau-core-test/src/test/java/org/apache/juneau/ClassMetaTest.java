@@ -16,6 +16,7 @@ import static org.junit.Assert.*;
 
 import java.util.*;
 
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.transform.*;
 import org.junit.*;
 
@@ -286,4 +287,113 @@ public class ClassMetaTest {
 	public static class HI1Swap extends PojoSwap<HI1,Map> {}
 	public static class HC2Swap extends PojoSwap<HC2,Map> {}
 	public static class HI2Swap extends PojoSwap<HI2,Map> {}
+
+	//====================================================================================================
+	// Resolved generic types are cached.
+	//====================================================================================================
+	public List<Map<String,Integer>> fi;
+
+	@Test
+	public void testParameterizedTypeCache() throws Exception {
+		java.lang.reflect.Type t = this.getClass().getField("fi").getGenericType();
+		ClassMeta cm = bc.getClassMeta(t);
+		assertEquals("java.util.List<java.util.Map<java.lang.String,java.lang.Integer>>", cm.toString());
+		assertSame(cm, bc.getClassMeta(t));
+
+		ClassMeta cm2 = bc.getClassMeta(List.class, String.class);
+		assertEquals("java.util.List<java.lang.String>", cm2.toString());
+		assertSame(cm2, bc.getClassMeta(List.class, String.class));
+		assertNotSame(cm2, bc.getClassMeta(List.class, Integer.class));
+	}
+
+	//====================================================================================================
+	// ClassMetas for mutually-recursive beans can be constructed concurrently without blocking.
+	//====================================================================================================
+	@Test
+	public void testConcurrentConstruction() throws Exception {
+		final BeanContext bc2 = BeanContext.create().build();
+		final Class<?>[] types = {J1.class, J2.class, J3.class};
+		final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+		final java.util.concurrent.CountDownLatch start = new java.util.concurrent.CountDownLatch(1);
+		Thread[] threads = new Thread[12];
+		for (int i = 0; i < threads.length; i++) {
+			final Class<?> c = types[i % types.length];
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						ClassMeta<?> cm = bc2.getClassMeta(c);
+						assertTrue(cm.isBean());
+						for (BeanPropertyMeta p : cm.getBeanMeta().getPropertyMetas())
+							assertTrue(p.getClassMeta().isBean() || p.getClassMeta().isCollection());
+					} catch (Throwable t) {
+						errors.add(t);
+					}
+				}
+			};
+			threads[i].start();
+		}
+		start.countDown();
+		for (Thread t : threads) {
+			t.join(10000);
+			assertFalse("Thread blocked", t.isAlive());
+		}
+		assertTrue(errors.toString(), errors.isEmpty());
+		for (Class<?> c : types)
+			assertSame(bc2.getClassMeta(c), bc2.getClassMeta(c));
+	}
+
+	public static class J1 {
+		public J2 j2;
+		public List<J3> j3;
+		public J1 j1;
+	}
+
+	public static class J2 {
+		public J3 j3;
+		public J1 j1;
+	}
+
+	public static class J3 {
+		public J1 j1;
+		public List<J2> j2;
+	}
+
+	//====================================================================================================
+	// warmUp() builds metadata up front, including bean property types.
+	//====================================================================================================
+	@Test
+	public void testWarmUp() throws Exception {
+		BeanContext bc2 = BeanContext.create().build();
+		assertSame(bc2, bc2.warmUp(K1.class, K2.class));
+		assertTrue(bc2.cmCache.containsKey(K1.class));
+		assertTrue(bc2.cmCache.containsKey(K2.class));
+		assertTrue(bc2.cmCache.containsKey(K3.class));
+		assertTrue(bc2.getClassMeta(K1.class).isBean());
+
+		try {
+			bc2.warmUp(K4.class);
+			fail();
+		} catch (RuntimeException e) {
+			// Expected.
+		}
+	}
+
+	public static class K1 {
+		public K3 k3;
+	}
+
+	public static class K2 {
+		public String f;
+	}
+
+	public static class K3 {
+		public int f;
+	}
+
+	public static class K4 {
+		@NameProperty
+		public static String f;
+	}
 }
@@ -191,4 +191,41 @@ public class ContextCacheTest {
 			throw new RuntimeException("Error!");
 		}
 	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Interning and counters
+	//-------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void testInterning() {
+		PropertyStore ps1 = PropertyStore.create().set("E.f1", "foo").set("X.f1", "bar").build();
+		PropertyStore ps2 = PropertyStore.create().set("X.f1", "bar").set("E.f1", "foo").build();
+		PropertyStore ps3 = PropertyStore.create().set("E.f1", "foo").set("X.f1", "baz").build();
+		assertSame(ps1, ps2);
+		assertNotSame(ps1, ps3);
+		assertSame(ps1.groups.get("E"), ps3.groups.get("E"));
+	}
+
+	@Test
+	public void testCounters() {
+		ContextCache cc = new ContextCache();
+		PropertyStore ps1 = PropertyStore.create().set("E.f1", "foo").build();
+		PropertyStore ps2 = PropertyStore.create().set("E.f1", "foo").set("X.f1", "bar").build();
+		PropertyStore ps3 = PropertyStore.create().set("E.f1", "bar").build();
+
+		assertEquals(0, cc.getCreateCount(E.class));
+		E e1 = cc.create(E.class, ps1);
+		assertSame(e1, cc.create(E.class, ps1));
+		assertSame(e1, cc.create(E.class, ps2));
+		assertNotSame(e1, cc.create(E.class, ps3));
+		assertEquals(2, cc.getCreateCount(E.class));
+		assertEquals(2, cc.getHitCount(E.class));
+		assertEquals(0, cc.getHitCount(A.class));
+	}
+
+	public static class E extends A {
+		public E(PropertyStore ps) {
+			super(ps);
+		}
+	}
 }
@@ -160,6 +160,54 @@ public class ParserReaderTest {
 		pr.close();
 	}
 
+	//====================================================================================================
+	// testMarkedView
+	//====================================================================================================
+	@Test
+	public void testMarkedView() throws Exception {
+		String t = "a123456789b123456789c123456789";
+
+		ParserReader pr = createParserReader(t);
+		assertEquals("a123456789", pr.read(10));
+		pr.mark();
+		assertEquals("b123456789", pr.read(10));
+		pr.delete(5);
+		CharSequence cs = pr.getMarkedView(1, 0);
+		assertEquals(4, cs.length());
+		assertEquals('1', cs.charAt(0));
+		assertTrue("1234".contentEquals(cs));
+		assertEquals("1234".hashCode(), cs.hashCode());
+		assertEquals("23", cs.subSequence(1, 3).toString());
+		assertEquals("1234", cs.toString());
+		assertEquals("c123456789", pr.read(10));
+		pr.close();
+	}
+
+	//====================================================================================================
+	// testBufferReuse
+	//====================================================================================================
+	@Test
+	public void testBufferReuse() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 3000; i++)
+			sb.append(i % 10);
+		String t = sb.toString();
+
+		// Grow the buffer past its initial size, release it, then make sure following readers get clean buffers.
+		for (Object in : new Object[]{t, new StringReader(t), t, new StringReader(t)}) {
+			try (ParserPipe pipe = new ParserPipe(in)) {
+				ParserReader pr = new ParserReader(pipe);
+				pr.mark();
+				assertEquals(t, read(pr));
+				assertEquals(t, pr.getMarked());
+			}
+			try (ParserPipe pipe = new ParserPipe(in instanceof String ? "xyz" : new StringReader("xyz"))) {
+				ParserReader pr = new ParserReader(pipe);
+				assertEquals("xyz", read(pr));
+			}
+		}
+	}
+
 	//====================================================================================================
 	// Utility methods
 	//====================================================================================================
@@ -0,0 +1,47 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.https;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.http.*;
+import org.junit.*;
+
+/**
+ * Verifies that the MediaType class caches and compares media types correctly.
+ */
+public class MediaTypeTest {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Predefined media types are always returned as the same objects.
+	//-----------------------------------------------------------------------------------------------------------------
+	@Test
+	public void testPredefined() throws Exception {
+		assertSame(MediaType.JSON, MediaType.forString("application/json"));
+		assertSame(MediaType.HTML, MediaType.forString("text/html"));
+		assertSame(MediaType.N3, MediaType.forString("text/n3"));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other media types are compared by value.
+	//-----------------------------------------------------------------------------------------------------------------
+	@Test
+	public void testEquals() throws Exception {
+		MediaType mt = MediaType.forString("text/foo;a=1");
+		assertEquals(mt, MediaType.forString("text/foo;a=1"));
+		assertEquals(mt.hashCode(), MediaType.forString("text/foo;a=1").hashCode());
+		assertNotEquals(mt, MediaType.forString("text/foo;a=2"));
+		assertNotEquals(mt, MediaType.forString("text/foo"));
+		assertNotEquals(MediaType.forString("text/foo"), MediaType.forString("text/bar"));
+	}
+}
@@ -0,0 +1,139 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.*;
+
+public class CacheTest {
+
+	private static String getOrPut(Cache<String,String> c, String key) {
+		String v = c.get(key);
+		if (v == null)
+			v = c.put(key, key.toUpperCase());
+		return v;
+	}
+
+	//====================================================================================================
+	// Basic get/put.
+	//====================================================================================================
+	@Test
+	public void testBasic() throws Exception {
+		Cache<String,String> c = new Cache<>(false, 100);
+		assertNull(c.get("a"));
+		assertEquals("A", c.put("a", "A"));
+		assertEquals("A", c.get("a"));
+		assertSame(c.get("a"), c.put("a", new String("A")));
+		assertEquals(1, c.size());
+		c.clear();
+		assertEquals(0, c.size());
+	}
+
+	//====================================================================================================
+	// Disabled caches never hold anything.
+	//====================================================================================================
+	@Test
+	public void testDisabled() throws Exception {
+		Cache<String,String> c = new Cache<>(true, 100);
+		assertEquals("A", c.put("a", "A"));
+		assertNull(c.get("a"));
+		assertEquals(0, c.size());
+	}
+
+	//====================================================================================================
+	// The cache never grows past its maximum size.
+	//====================================================================================================
+	@Test
+	public void testBounded() throws Exception {
+		Cache<String,String> c = new Cache<>(false, 100);
+		for (int i = 0; i < 10000; i++) {
+			String k = "k" + (i % 500);
+			assertEquals(k.toUpperCase(), getOrPut(c, k));
+			assertTrue(c.size() <= 100);
+		}
+		assertTrue(c.size() > 0);
+		assertTrue(c.getEvictions() > 0);
+	}
+
+	//====================================================================================================
+	// Frequently-used entries survive a long tail of one-off keys that would flush a plain LRU cache.
+	//====================================================================================================
+	@Test
+	public void testFrequentEntriesRetained() throws Exception {
+		Cache<String,String> c = new Cache<>(false, 64);
+		for (int j = 0; j < 5; j++)
+			for (int i = 0; i < 20; i++)
+				getOrPut(c, "hot" + i);
+		for (int i = 0; i < 10000; i++) {
+			getOrPut(c, "cold" + i);
+			if (i % 5 == 0)
+				getOrPut(c, "hot" + (i / 5 % 20));
+		}
+		for (int i = 0; i < 20; i++)
+			assertNotNull("hot" + i, c.get("hot" + i));
+	}
+
+	//====================================================================================================
+	// Hit/miss counters.
+	//====================================================================================================
+	@Test
+	public void testCounters() throws Exception {
+		Cache<String,String> c = new Cache<>(false, 100);
+		getOrPut(c, "a");
+		getOrPut(c, "a");
+		getOrPut(c, "a");
+		getOrPut(c, "b");
+		assertEquals(2, c.getHits());
+		assertEquals(2, c.getMisses());
+		assertEquals(0, c.getEvictions());
+		assertEquals(100, c.getMaxSize());
+	}
+
+	//====================================================================================================
+	// Concurrent reads and writes.
+	//====================================================================================================
+	@Test
+	public void testConcurrent() throws Exception {
+		final Cache<String,String> c = new Cache<>(false, 64);
+		ExecutorService es = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> l = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				final int seed = t;
+				l.add(es.submit(new Callable<Void>() {
+					@Override
+					public Void call() throws Exception {
+						Random r = new Random(seed);
+						for (int i = 0; i < 20000; i++) {
+							String k = "k" + (r.nextBoolean() ? r.nextInt(16) : r.nextInt(1000));
+							assertEquals(k.toUpperCase(), getOrPut(c, k));
+						}
+						return null;
+					}
+				}));
+			}
+			for (Future<?> f : l)
+				f.get();
+		} finally {
+			es.shutdown();
+		}
+		assertTrue(c.size() <= 64);
+		assertEquals(160000, c.getHits() + c.getMisses());
+		for (int i = 0; i < 16; i++)
+			assertNotNull("k" + i, c.get("k" + i));
+	}
+}
@@ -0,0 +1,64 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+public class IdentitySetTest {
+
+	//====================================================================================================
+	// Basic add/contains/remove.
+	//====================================================================================================
+	@Test
+	public void testBasic() throws Exception {
+		IdentitySet s = new IdentitySet();
+		String a = "a", a2 = new String("a");
+		assertTrue(s.add(a));
+		assertFalse(s.add(a));
+		assertTrue(s.contains(a));
+		assertFalse(s.contains(a2));
+		assertTrue(s.add(a2));
+		assertEquals(2, s.size());
+		assertTrue(s.remove(a));
+		assertFalse(s.remove(a));
+		assertFalse(s.contains(a));
+		assertTrue(s.contains(a2));
+		assertEquals(1, s.size());
+	}
+
+	//====================================================================================================
+	// Growing past the initial table size and removing in arbitrary order.
+	//====================================================================================================
+	@Test
+	public void testManyEntries() throws Exception {
+		IdentitySet s = new IdentitySet();
+		List<Object> l = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			Object o = new Object();
+			l.add(o);
+			assertTrue(s.add(o));
+		}
+		assertEquals(1000, s.size());
+		for (int i = 0; i < 1000; i += 2)
+			assertTrue(s.remove(l.get(i)));
+		for (int i = 0; i < 1000; i++)
+			assertEquals(i % 2 == 1, s.contains(l.get(i)));
+		for (int i = 999; i >= 0; i -= 2)
+			assertTrue(s.remove(l.get(i)));
+		assertEquals(0, s.size());
+	}
+}
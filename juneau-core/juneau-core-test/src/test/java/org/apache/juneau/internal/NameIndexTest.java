@@ -0,0 +1,86 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+public class NameIndexTest {
+
+	//====================================================================================================
+	// Lookups by String and other CharSequences.
+	//====================================================================================================
+	@Test
+	public void testBasic() throws Exception {
+		Map<String,Integer> m = new LinkedHashMap<>();
+		for (int i = 0; i < 50; i++)
+			m.put("p" + i, i);
+		NameIndex<Integer> x = new NameIndex<>(m);
+
+		for (int i = 0; i < 50; i++) {
+			assertEquals(i, x.get("p" + i).intValue());
+			assertEquals(i, x.get(new StringBuilder("p").append(i)).intValue());
+			assertEquals("p" + i, x.getName(new StringBuilder("p").append(i)));
+		}
+		assertNull(x.get("p50"));
+		assertNull(x.get(new StringBuilder("p")));
+		assertNull(x.get(""));
+		assertNull(x.get(null));
+		assertNull(x.getName("q1"));
+	}
+
+	@Test
+	public void testEmpty() throws Exception {
+		NameIndex<Integer> x = new NameIndex<>(Collections.<String,Integer>emptyMap());
+		assertNull(x.get("a"));
+		assertNull(x.getName(""));
+	}
+
+	@Test
+	public void testCollidingHashes() throws Exception {
+		// "Aa" and "BB" have the same String hash code.
+		Map<String,String> m = new LinkedHashMap<>();
+		m.put("Aa", "1");
+		m.put("BB", "2");
+		NameIndex<String> x = new NameIndex<>(m);
+		assertEquals("1", x.get(new StringBuilder("Aa")));
+		assertEquals("2", x.get(new StringBuilder("BB")));
+		assertNull(x.get("Ab"));
+	}
+
+	//====================================================================================================
+	// Parsed property names reuse the names stored on the bean meta.
+	//====================================================================================================
+	@Test
+	public void testBeanPropertyNames() throws Exception {
+		BeanMeta<A> bm = BeanContext.DEFAULT.getClassMeta(A.class).getBeanMeta();
+		assertEquals("foo", bm.getPropertyName(new StringBuilder("foo")));
+		assertNull(bm.getPropertyName("baz"));
+
+		A a = JsonParser.DEFAULT.parse("{foo:1,\"b\\u0061r\":2}", A.class);
+		assertEquals(1, a.foo);
+		assertEquals(2, a.bar);
+		a = JsonParser.DEFAULT.parse("{'f' + 'oo':1,bar:2}", A.class);
+		assertEquals(1, a.foo);
+		assertEquals(2, a.bar);
+	}
+
+	public static class A {
+		public int foo, bar;
+	}
+}
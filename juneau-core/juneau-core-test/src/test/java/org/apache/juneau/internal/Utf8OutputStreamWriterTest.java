@@ -0,0 +1,96 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.junit.*;
+
+public class Utf8OutputStreamWriterTest {
+
+	private static final String[] INPUTS = {
+		"",
+		"abc",
+		"xé€y",
+		"😀",
+		"a\ud83dbc",    // Unpaired high surrogate.
+		"a\ude00bc",    // Unpaired low surrogate.
+		"abc\ud83d",    // Trailing high surrogate.
+	};
+
+	//====================================================================================================
+	// Output should be identical to OutputStreamWriter.
+	//====================================================================================================
+	@Test
+	public void testSameAsOutputStreamWriter() throws Exception {
+		for (String s : INPUTS)
+			assertArrayEquals(s, expected(s), encode(s));
+
+		// Larger than the internal buffer.
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 5000; i++)
+			sb.append("abé€😀");
+		String s = sb.toString();
+		assertArrayEquals(expected(s), encode(s));
+	}
+
+	//====================================================================================================
+	// Surrogate pairs split across writes.
+	//====================================================================================================
+	@Test
+	public void testSplitSurrogates() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Utf8OutputStreamWriter w = new Utf8OutputStreamWriter(baos);
+		w.write("a\ud83d");
+		w.write('\ude00');
+		w.write(new char[]{'\ud83d'});
+		w.write("\ude00b");
+		w.release();
+		assertArrayEquals(expected("a😀😀b"), baos.toByteArray());
+	}
+
+	//====================================================================================================
+	// Writer can be reused after release.
+	//====================================================================================================
+	@Test
+	public void testRelease() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Utf8OutputStreamWriter w = new Utf8OutputStreamWriter(baos);
+		w.write("foo");
+		w.release();
+		assertEquals("foo", baos.toString("UTF-8"));
+		w.append("bar").append('é');
+		w.flush();
+		assertEquals("foobaré", baos.toString("UTF-8"));
+		w.release();
+		w.release();
+	}
+
+	private static byte[] encode(String s) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Utf8OutputStreamWriter w = new Utf8OutputStreamWriter(baos);
+		w.write(s);
+		w.close();
+		return baos.toByteArray();
+	}
+
+	private static byte[] expected(String s) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Writer w = new OutputStreamWriter(baos, "UTF-8");
+		w.write(s);
+		w.close();
+		return baos.toByteArray();
+	}
+}
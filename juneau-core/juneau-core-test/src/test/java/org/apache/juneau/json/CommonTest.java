@@ -299,6 +299,46 @@ public class CommonTest {
 		s.build().getSchemaSerializer().serialize(r1);
 	}
 
+	//====================================================================================================
+	// Recursion detection past a minimum depth
+	//====================================================================================================
+	@Test
+	public void testRecursionCheckDepth() throws Exception {
+		JsonSerializerBuilder s = JsonSerializer.create().ssq().detectRecursions().recursionCheckDepth(2);
+
+		R1 r1 = new R1();
+		R2 r2 = new R2();
+		R3 r3 = new R3();
+		r1.r2 = r2;
+		r2.r3 = r3;
+		r3.r1 = r1;
+
+		// Loop is detected once objects start being tracked at depth 2.
+		try {
+			s.build().serialize(r1);
+			fail("Exception expected!");
+		} catch (Exception e) {
+			String msg = e.getLocalizedMessage();
+			assertContains(msg,
+				"[0] root:org.apache.juneau.json.CommonTest$R1",
+				"->[1] r2:org.apache.juneau.json.CommonTest$R2",
+				"->[2] r3:org.apache.juneau.json.CommonTest$R3",
+				"->[3] r1:org.apache.juneau.json.CommonTest$R1",
+				"->[4] r2:org.apache.juneau.json.CommonTest$R2",
+				"->[5] r3:org.apache.juneau.json.CommonTest$R3"
+			);
+		}
+
+		s.ignoreRecursions();
+		assertEquals("{name:'foo',r2:{name:'bar',r3:{name:'baz',r1:{name:'foo',r2:{name:'bar'}}}}}", s.build().serialize(r1));
+
+		// Shared objects that don't form a loop are never reported.
+		s = JsonSerializer.create().ssq().detectRecursions().recursionCheckDepth(1);
+		R1 r1b = new R1();
+		r1b.r2 = new R2();
+		assertEquals("[{name:'foo',r2:{name:'bar'}},{name:'foo',r2:{name:'bar'}}]", s.build().serialize(new R1[]{r1b, r1b}));
+	}
+
 	public static class R1 {
 		public String name = "foo";
 		public R2 r2;
@@ -373,4 +373,47 @@ public class JsonParserTest {
 	private Reader reader(String in) {
 		return new CloseableStringReader(in);
 	}
+
+	//====================================================================================================
+	// testUtf8Bytes
+	//====================================================================================================
+	@Test
+	public void testUtf8Bytes() throws Exception {
+		ReaderParser p = JsonParser.create().utf8Bytes().build();
+		ReaderParser sp = JsonParser.create().strict().utf8Bytes().build();
+
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 2000; i++)
+			sb.append(i == 0 ? "" : ",").append("{a:'x\u00e9\u20ac\ud83d\ude00y',b:").append(i).append('}');
+		String in = sb.append(']').toString();
+		byte[] b = in.getBytes("UTF-8");
+		Object expected = JsonParser.DEFAULT.parse(in, ObjectList.class);
+
+		assertObjectEquals("{a:'x\u00e9\u20ac\ud83d\ude00y'}", p.parse("{a:'x\u00e9\u20ac\ud83d\ude00y'}".getBytes("UTF-8"), ObjectMap.class));
+		assertEquals(expected, p.parse(b, ObjectList.class));
+		assertEquals(expected, p.parse(new ByteArrayInputStream(b), ObjectList.class));
+		assertEquals(expected, p.parse(new TrickleInputStream(b), ObjectList.class));
+
+		// Malformed sequences are replaced in lax mode and rejected in strict mode.
+		byte[] bad = new byte[]{'"','a',(byte)0xE2,(byte)0x82,'b',(byte)0xFF,'"'};
+		assertEquals("a\ufffdb\ufffd", p.parse(bad, String.class));
+		assertEquals("a\ufffdb\ufffd", JsonParser.DEFAULT.parse(bad, String.class));
+		try {
+			sp.parse(bad, String.class);
+			fail("Exception expected.");
+		} catch (ParseException e) {}
+	}
+
+	/**
+	 * Input stream that only returns a few bytes at a time.
+	 */
+	private static class TrickleInputStream extends ByteArrayInputStream {
+		TrickleInputStream(byte[] b) {
+			super(b);
+		}
+		@Override
+		public synchronized int read(byte[] b, int off, int len) {
+			return super.read(b, off, Math.min(len, 1 + pos % 7));
+		}
+	}
 }
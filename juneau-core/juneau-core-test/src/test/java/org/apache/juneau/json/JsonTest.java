@@ -15,9 +15,11 @@ package org.apache.juneau.json;
 import static org.apache.juneau.testutils.TestUtils.*;
 import static org.junit.Assert.*;
 
+import java.io.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.json.annotation.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
@@ -307,4 +309,132 @@ public class JsonTest {
 		r = JsonParser.DEFAULT.parse(r, String.class);
 		assertEquals("foo/bar", r);
 	}
+
+	//====================================================================================================
+	// testBeanPlans
+	//====================================================================================================
+	@Test
+	public void testBeanPlans() throws Exception {
+		D d = new D();
+		d.f1 = "x";
+		d.f3 = new D();
+		assertEquals("{\"f1\":\"x\",\"f-2\":\"a/b\",\"f3\":{\"f-2\":\"a/b\"}}", JsonSerializer.DEFAULT.serialize(d));
+		assertEquals("{f1:'x','f-2':'a/b',f3:{'f-2':'a/b'}}", SimpleJsonSerializer.DEFAULT.serialize(d));
+		assertEquals("{\"f1\":\"x\",\"f-2\":\"a\\/b\",\"f3\":{\"f1\":null,\"f-2\":\"a\\/b\",\"f3\":null}}", JsonSerializer.create().escapeSolidus().trimNullProperties(false).build().serialize(d));
+		assertEquals("{_type:'D',f1:'x','f-2':'a/b',f3:{'f-2':'a/b'}}", JsonSerializer.create().ssq().addBeanTypes().addRootType().beanDictionary(D.class).build().serialize(d));
+
+		// Serializing to an existing JsonWriter must use the settings of the writer.
+		StringWriter sw = new StringWriter();
+		JsonSerializer.DEFAULT.serialize(d, new JsonWriter(sw, false, 0, false, '\'', true, false, null));
+		assertEquals("{f1:'x','f-2':'a/b',f3:{'f-2':'a/b'}}", sw.toString());
+
+		// Same for cached enum values.
+		sw = new StringWriter();
+		JsonSerializer.DEFAULT.serialize(E.values(), new JsonWriter(sw, false, 0, false, '\'', true, false, null));
+		assertEquals("['a','b']", sw.toString());
+	}
+
+	public static enum E { a, b }
+
+	//====================================================================================================
+	// testBeanPlansGetterExceptions
+	//====================================================================================================
+	@Test
+	public void testBeanPlansGetterExceptions() throws Exception {
+		F f = new F();
+		for (boolean trimNulls : new boolean[]{true, false}) {
+			JsonSerializer s = JsonSerializer.create().ssq().trimNullProperties(trimNulls).build();
+
+			// Serializing to an existing JsonWriter doesn't use bean plans.
+			StringWriter sw = new StringWriter();
+			s.serialize(f, new JsonWriter(sw, false, 0, false, '\'', true, false, null));
+			assertEquals(sw.toString(), s.serialize(f));
+		}
+		assertEquals("{f1:null,f2:'b'}", JsonSerializer.create().ssq().trimNullProperties(false).build().serialize(f));
+	}
+
+	@Bean(sort=true)
+	public static class F {
+		public String getF1() {
+			throw new RuntimeException("a");
+		}
+		public String getF2() {
+			return "b";
+		}
+	}
+
+	//====================================================================================================
+	// testStringEscaping
+	//====================================================================================================
+	@Test
+	public void testStringEscaping() throws Exception {
+		// Escapable characters at every position relative to the 8-character blocks, plus non-ASCII characters
+		// whose low 7 bits match an escapable character.
+		String chars = "ab\n\t\b\f\r'\"\\/\u00e9\u220a\u4e2d\ud83d\ude00";
+		Random r = new Random(1);
+		for (char q : new char[]{'\'','"'}) {
+			for (boolean escapeSolidus : new boolean[]{false,true}) {
+				for (int i = 0; i < 500; i++) {
+					StringBuilder sb = new StringBuilder();
+					for (int j = r.nextInt(40); j > 0; j--)
+						sb.append(r.nextInt(4) == 0 ? chars.charAt(r.nextInt(chars.length())) : 'x');
+					String s = sb.toString();
+					StringWriter sw = new StringWriter();
+					new JsonWriter(sw, false, 0, escapeSolidus, q, false, false, null).stringValue(s);
+					assertEquals(s, escape(s, q, escapeSolidus), sw.toString());
+				}
+			}
+		}
+	}
+
+	private static String escape(String s, char q, boolean escapeSolidus) {
+		StringBuilder sb = new StringBuilder().append(q);
+		for (char c : s.toCharArray()) {
+			if (c == '\n')
+				sb.append("\\n");
+			else if (c == '\t')
+				sb.append("\\t");
+			else if (c == '\b')
+				sb.append("\\b");
+			else if (c == '\f')
+				sb.append("\\f");
+			else if (c == q || c == '\\' || (c == '/' && escapeSolidus))
+				sb.append('\\').append(c);
+			else if (c != '\r')
+				sb.append(c);
+		}
+		return sb.append(q).toString();
+	}
+
+	//====================================================================================================
+	// testNumberFormatting
+	//====================================================================================================
+	@Test
+	public void testNumberFormatting() throws Exception {
+		JsonSerializer s = JsonSerializer.DEFAULT;
+		JsonParser p = JsonParser.DEFAULT;
+		List<Number> l = new ArrayList<Number>();
+		l.addAll(Arrays.<Number>asList(0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE,
+			(short)-12, (byte)127, 0.0, -0.0, 1.0, -1.5, 0.001, 0.00099, 9999999.5, 1e7, 0.1+0.2, 1e-300, Double.MAX_VALUE,
+			Double.NaN, Double.NEGATIVE_INFINITY, 1.5f));
+		Random r = new Random(2);
+		for (int i = 0; i < 20000; i++) {
+			l.add(r.nextLong() >> r.nextInt(64));
+			l.add(Math.round(r.nextDouble() * Math.pow(10, r.nextInt(12))) / Math.pow(10, r.nextInt(8)) * (r.nextBoolean() ? 1 : -1));
+			l.add(r.nextDouble() * Math.pow(10, r.nextInt(14) - 5));
+		}
+		for (Number n : l) {
+			String json = s.serialize(n);
+			assertEquals(n.toString(), json);
+			if (! (Double.isNaN(n.doubleValue()) || Double.isInfinite(n.doubleValue())))
+				assertEquals(n, p.parse(json, n.getClass()));
+		}
+	}
+
+	@Bean(typeName="D", properties="f1,f-2,f3")
+	public static class D {
+		public String f1;
+		@BeanProperty(name="f-2") public String f2 = "a/b";
+		public D f3;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.json.JsonToken.*;
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+public class JsonTokenReaderTest {
+
+	//====================================================================================================
+	// Tokens
+	//====================================================================================================
+	@Test
+	public void testTokens() throws Exception {
+		String in = "{a:'foo',\"b\":[1,2.5,true,null,{}],c:[], /*comment*/ d:{e:false}}";
+		List<Object> l = new ArrayList<>();
+		try (JsonTokenReader r = JsonParser.DEFAULT.createTokenReader(in)) {
+			JsonToken t;
+			while ((t = r.next()) != null) {
+				l.add(t);
+				if (t == FIELD_NAME)
+					l.add(r.getFieldName());
+				else if (t.isScalar())
+					l.add(r.getValue());
+			}
+			assertEquals(0, r.getDepth());
+		}
+		assertObjectEquals("['START_OBJECT','FIELD_NAME','a','STRING','foo','FIELD_NAME','b','START_ARRAY','NUMBER',1,'NUMBER',2.5,'BOOLEAN',true,'NULL',null,'START_OBJECT','END_OBJECT','END_ARRAY','FIELD_NAME','c','START_ARRAY','END_ARRAY','FIELD_NAME','d','START_OBJECT','FIELD_NAME','e','BOOLEAN',false,'END_OBJECT','END_OBJECT']", l);
+	}
+
+	//====================================================================================================
+	// Binding values
+	//====================================================================================================
+	@Test
+	public void testParse() throws Exception {
+		String in = "{count:2,items:[{f1:'a',f2:1},{f1:'b',f2:2}],other:{x:[1,2,3]},last:'z'}";
+		List<A> l = new ArrayList<>();
+		try (JsonTokenReader r = JsonParser.DEFAULT.createTokenReader(in)) {
+			assertEquals(START_OBJECT, r.next());
+			assertEquals(FIELD_NAME, r.next());
+			assertEquals(2, r.parse(int.class).intValue());
+			assertEquals(FIELD_NAME, r.next());
+			assertEquals(START_ARRAY, r.next());
+			while (r.hasNextValue())
+				l.add(r.parse(A.class));
+			assertEquals(END_ARRAY, r.next());
+			assertEquals(FIELD_NAME, r.next());
+			assertEquals(START_OBJECT, r.next());
+			r.skipChildren();
+			assertEquals(FIELD_NAME, r.next());
+			assertEquals("last", r.getFieldName());
+			assertEquals(STRING, r.next());
+			assertEquals("z", r.getString());
+			assertEquals(END_OBJECT, r.next());
+			assertNull(r.next());
+		}
+		assertObjectEquals("[{f1:'a',f2:1},{f1:'b',f2:2}]", l);
+	}
+
+	public static class A {
+		public String f1;
+		public int f2;
+	}
+
+	//====================================================================================================
+	// Multiple top-level values.
+	//====================================================================================================
+	@Test
+	public void testTopLevelValues() throws Exception {
+		try (JsonTokenReader r = JsonParser.DEFAULT.createTokenReader("{f1:'a'}\n{f1:'b'}\n".getBytes("UTF-8"))) {
+			assertEquals("a", r.parse(A.class).f1);
+			assertTrue(r.hasNextValue());
+			assertEquals("b", r.parse(A.class).f1);
+			assertFalse(r.hasNextValue());
+			assertNull(r.next());
+		}
+	}
+
+	//====================================================================================================
+	// Invalid input.
+	//====================================================================================================
+	@Test
+	public void testInvalid() throws Exception {
+		for (String in : new String[]{"[1,]", "{a:1,}", "[1}", "{a:1", "{a 1}", "[1 2]"}) {
+			try (JsonTokenReader r = JsonParser.DEFAULT.createTokenReader(in)) {
+				while (r.next() != null) {}
+				fail("Exception expected for input " + in);
+			} catch (ParseException e) {}
+		}
+		try (JsonTokenReader r = JsonParser.DEFAULT.createTokenReader("{a:1}")) {
+			r.next();
+			r.parse(A.class);
+			fail("Exception expected.");
+		} catch (ParseException e) {}
+	}
+}
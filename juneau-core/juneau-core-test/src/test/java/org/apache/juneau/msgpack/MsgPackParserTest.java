@@ -16,8 +16,10 @@ import static org.apache.juneau.testutils.TestUtils.*;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.nio.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 import org.junit.*;
@@ -131,6 +133,87 @@ public class MsgPackParserTest {
 		assertObjectEquals("{'1':2}", r);
 	}
 
+	//====================================================================================================
+	// testZeroCopy
+	// Validates MSGPACK_zeroCopy.
+	//====================================================================================================
+	@Test
+	public void testZeroCopy() throws Exception {
+		InputStreamParser p = MsgPackParser.create().zeroCopy().build();
+		byte[] in = StringUtils.fromSpacedHex("85 A3 66 6F 6F A2 C3 A9 A3 62 61 72 05 A3 62 61 7A C4 03 01 02 03 A3 71 75 78 C4 02 04 05 A2 C3 BC A1 78");
+		A a;
+
+		// Strings decoded in place, bin values sliced from the input.
+		a = p.parse(in, A.class);
+		assertEquals("\u00e9", a.foo);
+		assertEquals(5, a.bar);
+		assertEquals(3, a.baz.remaining());
+		assertTrue(a.baz.isReadOnly());
+		assertEquals(1, a.baz.get(0));
+		assertEquals(3, a.baz.get(2));
+		assertTrue(a.qux instanceof ByteBuffer);
+		assertEquals(2, ((ByteBuffer)a.qux).remaining());
+		assertEquals("x", a.u);
+
+		// Slices share the input array.
+		in[19] = 9;
+		assertEquals(9, a.baz.get(0));
+		in[19] = 1;
+
+		// Default parser copies bin values.
+		a = MsgPackParser.DEFAULT.parse(in, A.class);
+		assertEquals("\u00e9", a.foo);
+		assertEquals(3, a.baz.remaining());
+		assertFalse(a.baz.isReadOnly());
+		assertObjectEquals("[4,5]", a.qux);
+		assertEquals("x", a.u);
+
+		// Byte buffer input is read from its position without changing it.
+		byte[] b = new byte[in.length + 2];
+		System.arraycopy(in, 0, b, 2, in.length);
+		ByteBuffer bb = ByteBuffer.wrap(b);
+		bb.position(2);
+		a = p.parse(bb, A.class);
+		assertEquals("\u00e9", a.foo);
+		assertEquals(1, a.baz.get(0));
+		assertEquals(2, bb.position());
+
+		bb = ByteBuffer.allocateDirect(in.length);
+		bb.put(in).flip();
+		a = p.parse(bb, A.class);
+		assertEquals(5, a.bar);
+		assertEquals(3, a.baz.remaining());
+		a = MsgPackParser.DEFAULT.parse(bb, A.class);
+		assertEquals(5, a.bar);
+		assertEquals(0, bb.position());
+
+		// Strings are trimmed after decoding.
+		a = MsgPackParser.create().zeroCopy().trimStrings().build().parse(StringUtils.fromSpacedHex("81 A4 66 6F 6F 20 A2 20 61"), A.class);
+		assertEquals("a", a.foo);
+
+		// Iterators read in place too.
+		try (ParserIterator<Integer> i = ((MsgPackParser)p).parseIterator(StringUtils.fromSpacedHex("92 01 02"), Integer.class)) {
+			assertEquals(1, i.next().intValue());
+			assertEquals(2, i.next().intValue());
+			assertFalse(i.hasNext());
+		}
+
+		try {
+			p.parse(StringUtils.fromSpacedHex("A5 61 62"), Object.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unexpected end of file"));
+		}
+	}
+
+	public static class A {
+		public String foo;
+		public int bar;
+		public ByteBuffer baz;
+		public Object qux;
+		@BeanProperty(name="\u00fc") public String u;
+	}
+
 	private InputStream is(String spacedHex) throws Exception {
 		return new CloseableByteArrayInputStream(StringUtils.fromSpacedHex(spacedHex));
 	}
@@ -14,6 +14,9 @@ package org.apache.juneau.msgpack;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+import java.util.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 import org.junit.*;
@@ -204,6 +207,53 @@ public class MsgPackSerializerTest {
 		test(new ObjectMap("{1:1,2:1,3:1,4:1,5:1,6:1,7:1,8:1,9:1,a:1,b:1,c:1,d:1,e:1,f:1,g:1}"), "DE 00 10 A1 31 01 A1 32 01 A1 33 01 A1 34 01 A1 35 01 A1 36 01 A1 37 01 A1 38 01 A1 39 01 A1 61 01 A1 62 01 A1 63 01 A1 64 01 A1 65 01 A1 66 01 A1 67 01");
 	}
 
+	//====================================================================================================
+	// testStrings
+	//====================================================================================================
+	@Test
+	public void testStrings() throws Exception {
+		// Multi-byte characters, surrogate pairs, and unpaired surrogates at lengths around the header boundaries
+		// and the size of the internal buffer.
+		String chars = "ab\u00e9\u220a\u4e2d\ud83d\ude00\ud83d\ude00";
+		Random r = new Random(3);
+		for (int len : new int[]{0, 1, 31, 32, 255, 256, 3000, 8191, 8192, 8193, 30000, 65535, 65536, 70000}) {
+			for (int i = 0; i < 3; i++) {
+				StringBuilder sb = new StringBuilder();
+				for (int j = 0; j < len; j++)
+					sb.append(i == 0 ? 'x' : chars.charAt(r.nextInt(chars.length())));
+				String s = sb.toString();
+				byte[] b = s.getBytes("UTF-8");
+				ByteArrayOutputStream expected = new ByteArrayOutputStream();
+				if (b.length < 32)
+					expected.write(0xA0 + b.length);
+				else if (b.length < 256)
+					expected.write(new byte[]{(byte)0xD9, (byte)b.length});
+				else if (b.length < 65536)
+					expected.write(new byte[]{(byte)0xDA, (byte)(b.length>>8), (byte)b.length});
+				else
+					expected.write(new byte[]{(byte)0xDB, (byte)(b.length>>24), (byte)(b.length>>16), (byte)(b.length>>8), (byte)b.length});
+				expected.write(b);
+				assertArrayEquals(expected.toByteArray(), MsgPackSerializer.DEFAULT.serialize(s));
+				assertEquals(new String(b, "UTF-8"), MsgPackParser.DEFAULT.parse(MsgPackSerializer.DEFAULT.serialize(s), String.class));
+			}
+		}
+	}
+
+	//====================================================================================================
+	// testOutputStream
+	//====================================================================================================
+	@Test
+	public void testOutputStream() throws Exception {
+		// Output larger than the internal buffer is written to the stream in full.
+		List<Object> l = new ArrayList<>();
+		for (int i = 0; i < 5000; i++)
+			l.add(i % 2 == 0 ? new Person() : (Object)(i * 1000000000L));
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		MsgPackSerializer.DEFAULT.serialize(l, baos);
+		assertArrayEquals(MsgPackSerializer.DEFAULT.serialize(l), baos.toByteArray());
+		assertEquals(5000, MsgPackParser.DEFAULT.parse(baos.toByteArray(), List.class).size());
+	}
+
 	public static class Person {
 		public String name = "John Smith";
 		public int age = 21;
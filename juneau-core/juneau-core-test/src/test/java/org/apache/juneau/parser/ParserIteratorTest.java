@@ -0,0 +1,117 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.junit.*;
+
+public class ParserIteratorTest {
+
+	public static class A {
+		public String f1;
+		public int f2;
+
+		public static A create(int i) {
+			A a = new A();
+			a.f1 = "x" + i;
+			a.f2 = i;
+			return a;
+		}
+	}
+
+	private static List<A> list(int count) {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < count; i++)
+			l.add(A.create(i));
+		return l;
+	}
+
+	//====================================================================================================
+	// JSON arrays.
+	//====================================================================================================
+	@Test
+	public void testJson() throws Exception {
+		String in = JsonSerializer.DEFAULT.serialize(list(100));
+		int i = 0;
+		try (ParserIterator<A> it = JsonParser.DEFAULT.parseIterator(new StringReader(in), A.class)) {
+			while (it.hasNext()) {
+				A a = it.next();
+				assertEquals(i, a.f2);
+				assertEquals("x" + i++, a.f1);
+			}
+		}
+		assertEquals(100, i);
+
+		try (ParserIterator<A> it = JsonParser.DEFAULT.parseIterator("[]", A.class)) {
+			assertFalse(it.hasNext());
+		}
+
+		ParserIterator<Map<String,Integer>> it2 = JsonParser.DEFAULT.parseIterator("[{a:1},{b:2}]", Map.class, String.class, Integer.class);
+		assertObjectEquals("[{a:1},{b:2}]", it2.stream().collect(Collectors.toList()));
+	}
+
+	//====================================================================================================
+	// Newline-delimited JSON.
+	//====================================================================================================
+	@Test
+	public void testJsonTopLevelValues() throws Exception {
+		try (Stream<A> s = JsonParser.DEFAULT.parseIterator("{f1:'a',f2:1}\n{f1:'b',f2:2}\n", A.class).stream()) {
+			assertObjectEquals("[{f1:'a',f2:1},{f1:'b',f2:2}]", s.collect(Collectors.toList()));
+		}
+	}
+
+	//====================================================================================================
+	// Invalid JSON is reported when the bad element is reached.
+	//====================================================================================================
+	@Test
+	public void testJsonInvalid() throws Exception {
+		ParserIterator<A> it = JsonParser.DEFAULT.parseIterator("[{f1:'a',f2:1},{f1:'b',f2:2}", A.class);
+		assertEquals("a", it.next().f1);
+		assertEquals("b", it.next().f1);
+		try {
+			it.hasNext();
+			fail("Exception expected.");
+		} catch (BeanRuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+		assertFalse(it.hasNext());
+	}
+
+	//====================================================================================================
+	// MessagePack arrays.
+	//====================================================================================================
+	@Test
+	public void testMsgPack() throws Exception {
+		byte[] in = MsgPackSerializer.DEFAULT.serialize(list(100));
+		int i = 0;
+		try (ParserIterator<A> it = MsgPackParser.DEFAULT.parseIterator(new ByteArrayInputStream(in), A.class)) {
+			while (it.hasNext())
+				assertEquals(i++, it.next().f2);
+		}
+		assertEquals(100, i);
+
+		try {
+			MsgPackParser.DEFAULT.parseIterator(MsgPackSerializer.DEFAULT.serialize(A.create(1)), A.class);
+			fail("Exception expected.");
+		} catch (ParseException e) {}
+	}
+}
@@ -0,0 +1,92 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.junit.Assert.*;
+
+import java.lang.ref.*;
+import java.util.*;
+
+import org.apache.juneau.jena.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link Parser#PARSER_poolSessions} setting.
+ */
+public class SessionPoolingTest {
+
+	//====================================================================================================
+	// Repeated calls on a pooled parser produce the same result.
+	//====================================================================================================
+	@Test
+	public void testJson() throws Exception {
+		ReaderParser p = JsonParser.create().poolSessions().build();
+		assertTrue(p.isPoolSessions());
+		for (int i = 0; i < 3; i++) {
+			assertEquals(3, p.parse("{a:3,b:'bar'}", A.class).a);
+			assertEquals(Arrays.asList(1,2), p.parse("[1,2]", List.class, Integer.class));
+		}
+	}
+
+	@Test
+	public void testXml() throws Exception {
+		ReaderParser p = XmlParser.create().poolSessions().build();
+		for (int i = 0; i < 3; i++)
+			assertEquals("bar", p.parse("<object><a>3</a><b>bar</b></object>", A.class).b);
+	}
+
+	@Test
+	public void testRdf() throws Exception {
+		String in = RdfSerializer.create().xmlabbrev().build().serialize(new A());
+		ReaderParser p = RdfParser.create().xml().poolSessions().build();
+		for (int i = 0; i < 3; i++)
+			assertEquals("foo", p.parse(in, A.class).b);
+	}
+
+	//====================================================================================================
+	// A pooled session does not keep the parser from being garbage collected.
+	//====================================================================================================
+	@Test
+	public void testParserCollected() throws Exception {
+		// Bypass the context cache, which would keep the parser reachable.
+		ReaderParser p = new JsonParser(JsonParser.create().poolSessions().getPropertyStore());
+		assertEquals(3, p.parse("{a:3,b:'bar'}", A.class).a);
+		WeakReference<ReaderParser> r = new WeakReference<>(p);
+		p = null;
+		for (int i = 0; i < 10 && r.get() != null; i++)
+			System.gc();
+		assertNull(r.get());
+	}
+
+	//====================================================================================================
+	// A failed call does not leave state behind in the pooled session.
+	//====================================================================================================
+	@Test
+	public void testResetAfterFailure() throws Exception {
+		ReaderParser p = JsonParser.create().poolSessions().build();
+		try {
+			p.parse("{a:", A.class);
+			fail();
+		} catch (ParseException e) {
+			// Expected.
+		}
+		assertEquals(3, p.parse("{a:3}", A.class).a);
+	}
+
+	public static class A {
+		public int a = 1;
+		public String b = "foo";
+	}
+}
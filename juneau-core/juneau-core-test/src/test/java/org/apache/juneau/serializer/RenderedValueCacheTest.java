@@ -0,0 +1,110 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests writing enum constants and bean dictionary names through {@link RenderedValueCache}.
+ */
+public class RenderedValueCacheTest {
+
+	//====================================================================================================
+	// Enums are rendered once and reused.
+	//====================================================================================================
+	@Test
+	public void testEnums() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			assertEquals("['ONE','TWO','t\\'hree']", SimpleJsonSerializer.DEFAULT.serialize(E.values()));
+			assertEquals("[\"ONE\",\"TWO\",\"t'hree\"]", JsonSerializer.DEFAULT.serialize(E.values()));
+			assertEquals("@(ONE,TWO,t~'hree)", UonSerializer.DEFAULT.serialize(E.values()));
+			assertEquals("@(ONE,TWO,t~'hree)", UonSerializer.DEFAULT_ENCODING.serialize(E.values()));
+			assertEquals("<array><string>ONE</string><string>TWO</string><string>t'hree</string></array>", XmlSerializer.DEFAULT_SQ.serialize(E.values()));
+			assertEquals("['<a&b>']", SimpleJsonSerializer.DEFAULT.serialize(new F[]{F.AB}));
+			assertEquals("<array><string>&lt;a&amp;b&gt;</string></array>", XmlSerializer.DEFAULT_SQ.serialize(new F[]{F.AB}));
+		}
+	}
+
+	@Test
+	public void testEnumNames() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().useEnumNames().build();
+		assertEquals("['ONE','TWO','THREE']", s.serialize(E.values()));
+	}
+
+	@Test
+	public void testNonConstantToString() throws Exception {
+		String s1 = SimpleJsonSerializer.DEFAULT.serialize(G.X), s2 = SimpleJsonSerializer.DEFAULT.serialize(G.X);
+		assertNotEquals(s1, s2);
+		s1 = XmlSerializer.DEFAULT_SQ.serialize(G.X);
+		s2 = XmlSerializer.DEFAULT_SQ.serialize(G.X);
+		assertNotEquals(s1, s2);
+	}
+
+	//====================================================================================================
+	// Dictionary names are rendered once and reused.
+	//====================================================================================================
+	@Test
+	public void testDictionaryNames() throws Exception {
+		List<Object> l = new ArrayList<>();
+		l.add(new A());
+		l.add(new A());
+		for (int i = 0; i < 2; i++) {
+			assertEquals("[{_type:'a\\'1',f:1},{_type:'a\\'1',f:1}]", JsonSerializer.create().ssq().addBeanTypes().build().serialize(l));
+			assertEquals("@((_type=a~'1,f=1),(_type=a~'1,f=1))", UonSerializer.create().addBeanTypes().build().serialize(l));
+			assertEquals("0=(_type=a~'1,f=1)&1=(_type=a~'1,f=1)", UrlEncodingSerializer.create().addBeanTypes().build().serialize(l));
+		}
+	}
+
+	public static enum E {
+		ONE, TWO, THREE;
+
+		@Override
+		public String toString() {
+			return this == THREE ? "t'hree" : name();
+		}
+	}
+
+	public static enum F {
+		AB;
+
+		@Override
+		public String toString() {
+			return "<a&b>";
+		}
+	}
+
+	public static enum G {
+		X;
+
+		static int counter;
+
+		@Override
+		public String toString() {
+			return "x" + (++counter);
+		}
+	}
+
+	@Bean(typeName="a'1")
+	public static class A {
+		public int f = 1;
+	}
+}
@@ -13,6 +13,7 @@
 package org.apache.juneau.serializer;
 
 import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.json.*;
@@ -151,4 +152,29 @@ public class SerializerGroupTest {
 			super(ps, "application/json", "*/*");
 		}
 	}
+
+	//====================================================================================================
+	// Equivalent Accept headers share a match cache entry.
+	//====================================================================================================
+	@Test
+	public void testAcceptHeaderNormalization() throws Exception {
+		assertEquals("text/foo", SerializerGroup.normalize(" text/foo "));
+		assertEquals("text/foo,text/bar;q=0.9,text/baz;q=0.5", SerializerGroup.normalize("text/baz;q=0.5, text/foo ,text/bar;q=0.9"));
+		assertEquals("text/a,text/b", SerializerGroup.normalize("text/a,,text/b"));
+		assertEquals("text/a;q=x,text/b", SerializerGroup.normalize("text/a;q=x,text/b"));
+		assertEquals("text/a;q=0.9,text/b; q=0.9", SerializerGroup.normalize("text/a;q=0.9, text/b; q=0.9"));
+		assertEquals("text/a,text/b; Q = 0.5", SerializerGroup.normalize("text/b; Q = 0.5,text/a"));
+		assertEquals("text/a;level=1;q=0.5,text/b;quality=1;q=0.4", SerializerGroup.normalize("text/b;quality=1;q=0.4,text/a;level=1;q=0.5"));
+
+		// Matches are cached under the header as received.
+		SerializerGroup g = SerializerGroup.create().append(SA1.class, SA2.class, SA3.class).build();
+		SerializerMatch sm = g.getSerializerMatch("text/baz;q=0.8,text/foo");
+		assertInstanceOf(SA1.class, sm.getSerializer());
+		assertInstanceOf(SA1.class, g.getSerializer(" text/foo , text/baz;q=0.8"));
+		assertSame(sm, g.getSerializerMatch("text/baz;q=0.8,text/foo"));
+		assertInstanceOf(SA3.class, g.getSerializer("text/baz;q=0.8,text/foo;q=0.5"));
+		assertEquals(3, g.getMatchCacheSize());
+		assertEquals(1d/4, g.getMatchCacheHitRate(), 0.001);
+		assertEquals(0, g.getMatchCacheEvictions());
+	}
 }
@@ -0,0 +1,131 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.junit.Assert.*;
+
+import java.lang.ref.*;
+import java.util.*;
+
+import org.apache.juneau.jena.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.xml.*;
+import org.apache.juneau.xml.annotation.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link Serializer#SERIALIZER_poolSessions} setting.
+ */
+public class SessionPoolingTest {
+
+	//====================================================================================================
+	// Pooled sessions are reused on the same thread.
+	//====================================================================================================
+	@Test
+	public void testSessionReused() throws Exception {
+		Serializer s = JsonSerializer.create().ssq().poolSessions().build();
+		assertTrue(s.isPoolSessions());
+		SerializerSession ss = s.acquireSession();
+		s.releaseSession(ss);
+		assertSame(ss, s.acquireSession());
+
+		s = JsonSerializer.create().ssq().build();
+		assertFalse(s.isPoolSessions());
+		ss = s.acquireSession();
+		s.releaseSession(ss);
+		assertNotSame(ss, s.acquireSession());
+	}
+
+	//====================================================================================================
+	// Repeated calls on a pooled serializer produce the same output.
+	//====================================================================================================
+	@Test
+	public void testJson() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().poolSessions().build();
+		for (int i = 0; i < 3; i++) {
+			assertEquals("{a:1,b:'foo'}", s.serialize(new A()));
+			assertEquals("[1,2]", s.serialize(Arrays.asList(1,2)));
+		}
+	}
+
+	@Test
+	public void testMsgPack() throws Exception {
+		OutputStreamSerializer s = MsgPackSerializer.create().poolSessions().build();
+		byte[] expected = MsgPackSerializer.DEFAULT.serialize(new A());
+		for (int i = 0; i < 3; i++)
+			assertArrayEquals(expected, s.serialize(new A()));
+	}
+
+	@Test
+	public void testXmlNamespaces() throws Exception {
+		WriterSerializer s = XmlSerializer.create().sq().enableNamespaces().poolSessions().build();
+		String expected = XmlSerializer.create().sq().enableNamespaces().build().serialize(new B());
+		for (int i = 0; i < 3; i++)
+			assertEquals(expected, s.serialize(new B()));
+	}
+
+	@Test
+	public void testRdf() throws Exception {
+		WriterSerializer s = RdfSerializer.create().xmlabbrev().poolSessions().build();
+		String expected = RdfSerializer.create().xmlabbrev().build().serialize(new A());
+		for (int i = 0; i < 3; i++)
+			assertEquals(expected, s.serialize(new A()));
+	}
+
+	//====================================================================================================
+	// A pooled session does not keep the serializer from being garbage collected.
+	//====================================================================================================
+	@Test
+	public void testSerializerCollected() throws Exception {
+		// Bypass the context cache, which would keep the serializer reachable.
+		WriterSerializer s = new JsonSerializer(JsonSerializer.create().ssq().poolSessions().getPropertyStore());
+		assertEquals("{a:1,b:'foo'}", s.serialize(new A()));
+		WeakReference<WriterSerializer> r = new WeakReference<>(s);
+		s = null;
+		for (int i = 0; i < 10 && r.get() != null; i++)
+			System.gc();
+		assertNull(r.get());
+	}
+
+	//====================================================================================================
+	// A failed call does not leave state behind in the pooled session.
+	//====================================================================================================
+	@Test
+	public void testResetAfterFailure() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().detectRecursions().poolSessions().build();
+		R r = new R();
+		r.r = r;
+		try {
+			s.serialize(r);
+			fail();
+		} catch (SerializeException e) {
+			// Expected.
+		}
+		assertEquals("{a:1,b:'foo'}", s.serialize(new A()));
+	}
+
+	public static class A {
+		public int a = 1;
+		public String b = "foo";
+	}
+
+	@Xml(prefix="foo", namespace="http://foo")
+	public static class B {
+		public int a = 1;
+	}
+
+	public static class R {
+		public R r;
+	}
+}
@@ -0,0 +1,201 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.csv.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.transform.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests serializing iterators, enumerations and streams element-by-element.
+ */
+public class StreamingSerializerTest {
+
+	private static final WriterSerializer JSON = SimpleJsonSerializer.DEFAULT;
+
+	//====================================================================================================
+	// Cursor-like sources serialize as arrays.
+	//====================================================================================================
+	@Test
+	public void testJson() throws Exception {
+		assertEquals("['a','b','c']", JSON.serialize(Arrays.asList("a","b","c").iterator()));
+		assertEquals("['a','b','c']", JSON.serialize(Collections.enumeration(Arrays.asList("a","b","c"))));
+		assertEquals("[1,2,3]", JSON.serialize(Stream.of(1,2,3)));
+		assertEquals("[1,2,3]", JSON.serialize(IntStream.rangeClosed(1,3)));
+		assertEquals("'[x, y]'", JSON.serialize(new A("x","y")));
+		assertEquals("[]", JSON.serialize(Collections.emptyIterator()));
+	}
+
+	@Test
+	public void testBeanProperty() throws Exception {
+		B b = new B();
+		b.f1 = Arrays.asList("a","b").iterator();
+		b.f2 = Stream.of(new A("c"), new A("d"));
+		assertEquals("{f1:['a','b'],f2:['[c]','[d]']}", JSON.serialize(b));
+	}
+
+	@Test
+	public void testNested() throws Exception {
+		List<Object> l = new ArrayList<>();
+		l.add(Arrays.asList(1,2).iterator());
+		l.add(Stream.of(3,4));
+		assertEquals("[[1,2],[3,4]]", JSON.serialize(l));
+	}
+
+	@Test
+	public void testUon() throws Exception {
+		assertEquals("@(a,b,c)", UonSerializer.DEFAULT.serialize(Stream.of("a","b","c")));
+	}
+
+	@Test
+	public void testXml() throws Exception {
+		XmlSerializer s = XmlSerializer.DEFAULT_SQ;
+		assertEquals(s.serialize(Arrays.asList("a","b")), s.serialize(Stream.of("a","b")));
+		assertEquals(s.serialize(Arrays.asList("a","b")), s.serialize(Arrays.asList("a","b").iterator()));
+	}
+
+	@Test
+	public void testMsgPack() throws Exception {
+		OutputStreamSerializer s = MsgPackSerializer.DEFAULT;
+		assertArrayEquals(s.serialize(Arrays.asList(1,"a",true)), s.serialize(Stream.of(1,"a",true)));
+		assertArrayEquals(s.serialize(new ArrayList<>()), s.serialize(Collections.emptyIterator()));
+	}
+
+	@Test
+	public void testCsv() throws Exception {
+		Stream<C> s = Stream.of(new C("b1",1), new C("b2",2));
+		assertEquals("b,c\nb1,1\nb2,2\n", CsvSerializer.DEFAULT.serialize(s));
+	}
+
+	@Test
+	public void testSorted() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().sortCollections().build();
+		assertEquals("['a','b','c']", s.serialize(Stream.of("c","a","b")));
+	}
+
+	//====================================================================================================
+	// Streams are closed after they've been serialized.
+	//====================================================================================================
+	@Test
+	public void testStreamClosed() throws Exception {
+		final AtomicBoolean closed = new AtomicBoolean();
+		Stream<String> s = Stream.of("a","b").onClose(new Runnable() {
+			@Override
+			public void run() {
+				closed.set(true);
+			}
+		});
+		assertEquals("['a','b']", JSON.serialize(s));
+		assertTrue(closed.get());
+	}
+
+	//====================================================================================================
+	// Output is flushed periodically while streaming.
+	//====================================================================================================
+	@Test
+	public void testPeriodicFlush() throws Exception {
+		FlushCountingWriter w = new FlushCountingWriter();
+		JSON.serialize(IntStream.range(0, StreamingCollection.FLUSH_INTERVAL * 3).iterator(), w);
+		assertTrue(w.flushes >= 2);
+	}
+
+	//====================================================================================================
+	// Beans that happen to be iterable are still serialized as beans.
+	//====================================================================================================
+	@Test
+	public void testIterableBean() throws Exception {
+		assertObjectEquals("{f1:'foo'}", new D());
+	}
+
+	//====================================================================================================
+	// Other iterables are only streamed when swapped for their iterators.
+	//====================================================================================================
+	@Test
+	public void testSwappedIterable() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().pojoSwaps(ASwap.class).build();
+		assertEquals("['x','y']", s.serialize(new A("x","y")));
+		assertEquals("'[x, y]'", JSON.serialize(new A("x","y")));
+	}
+
+	public static class A implements Iterable<String> {
+		private final List<String> l;
+
+		public A(String...s) {
+			l = Arrays.asList(s);
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return l.iterator();
+		}
+
+		@Override
+		public String toString() {
+			return l.toString();
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	public static class ASwap extends PojoSwap<A,Iterator> {
+		@Override
+		public Iterator swap(BeanSession session, A a) {
+			return a.iterator();
+		}
+	}
+
+	public static class B {
+		public Iterator<String> f1;
+		public Stream<A> f2;
+	}
+
+	public static class C {
+		public String b;
+		public int c;
+
+		public C(String b, int c) {
+			this.b = b;
+			this.c = c;
+		}
+	}
+
+	public static class D implements Iterable<String> {
+		public String f1 = "foo";
+
+		@Override
+		public Iterator<String> iterator() {
+			return Collections.singletonList(f1).iterator();
+		}
+	}
+
+	private static class FlushCountingWriter extends StringWriter {
+		int flushes;
+
+		@Override
+		public void flush() {
+			flushes++;
+		}
+	}
+}
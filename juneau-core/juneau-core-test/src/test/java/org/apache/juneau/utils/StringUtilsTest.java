@@ -183,6 +183,73 @@ public class StringUtilsTest {
 		}
 	}
 
+	//====================================================================================================
+	// parseSimpleNumber(CharSequence,Class)
+	//====================================================================================================
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+	public void testParseSimpleNumber() throws Exception {
+		Class[] types = { Integer.class, Long.class, Short.class, Byte.class, Double.class, Float.class, Number.class, BigDecimal.class };
+		String[] fixed = { "0", "-0", "1", "-1", "0.0", "-0.0", "0.5", "1e5", "1E-5", "1.5e+3", "2147483647", "-2147483648",
+			"2147483648", "-2147483649", "32767", "32768", "127", "-128", "128", "999999999999999999", "9007199254740993",
+			"0.1", "0.30000000000000004", "3.4028235e38", "1e22", "1e23", "1e-22", "1e-23", "16777217", "1.17549435E-38",
+			"012", "+1", "1.", ".1", "0x1F", "#1F", "1e", "1e+", "-", "", "1.2.3", "1e1000", "1234567890123456789" };
+		for (String s : fixed)
+			for (Class c : types)
+				assertSimpleNumber(s, c);
+
+		Random r = new Random(0);
+		for (int i = 0; i < 100000; i++) {
+			StringBuilder sb = new StringBuilder();
+			if (r.nextBoolean())
+				sb.append('-');
+			sb.append(r.nextInt(10) == 0 ? 0 : (long)Math.floor(Math.pow(10, r.nextInt(19) * r.nextDouble())));
+			if (r.nextBoolean())
+				sb.append('.').append(r.nextInt(1000000) + 1);
+			if (r.nextInt(4) == 0)
+				sb.append('e').append(r.nextInt(60) - 30);
+			for (Class c : types)
+				assertSimpleNumber(sb.toString(), c);
+		}
+	}
+
+	private static void assertSimpleNumber(String s, Class<? extends Number> c) {
+		Number n = parseSimpleNumber(s, c);
+		if (n == null)
+			return;
+		Number expected;
+		if (c == Integer.class)
+			expected = Integer.decode(s);
+		else if (c == Long.class)
+			expected = Long.decode(s);
+		else if (c == Short.class)
+			expected = Short.decode(s);
+		else if (c == Byte.class)
+			expected = Byte.decode(s);
+		else if (c == Double.class)
+			expected = Double.valueOf(s);
+		else if (c == Float.class)
+			expected = Float.valueOf(s);
+		else if (c == Number.class && isDecimal(s)) {
+			long l = Long.decode(s);
+			if (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE)
+				expected = Integer.valueOf((int)l);
+			else
+				expected = Long.valueOf(l);
+		} else if (c == Number.class) {
+			Double d = Double.valueOf(s);
+			Float f = Float.valueOf(s);
+			if (d.toString().equals(f.toString()))
+				expected = f;
+			else
+				expected = d;
+		} else {
+			fail("Unexpected number for type " + c.getSimpleName() + ": " + s);
+			return;
+		}
+		assertEquals(s + " " + c.getSimpleName(), expected, n);
+	}
+
 	//====================================================================================================
 	// test - Basic tests
 	//====================================================================================================
@@ -14,6 +14,8 @@ package org.apache.juneau.xml;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 import org.junit.*;
@@ -91,4 +93,38 @@ public class XmlParserTest {
 		m = p.parse(xml, ObjectMap.class);
 		assertEquals("{A:{}}", m.toString());
 	}
+
+	@Test
+	public void testInputFactoryReuse() throws Exception {
+		XmlParser p = XmlParser.create().build();
+		assertSame(p.getInputFactory(), p.getInputFactory());
+		assertEquals("{a:'1'}", p.parse("<object><a>1</a></object>", ObjectMap.class).toString());
+		assertEquals("{a:'2'}", p.parse("<object><a>2</a></object>", ObjectMap.class).toString());
+	}
+
+	@Test
+	public void testByteInput() throws Exception {
+		String xml = "<object><a>\u00e9\u4e2d</a></object>";
+		ReaderParser p = XmlParser.create().strict().build();
+
+		// Handed directly to the STAX parser in strict mode.
+		assertEquals("{a:'\u00e9\u4e2d'}", p.parse(xml.getBytes("UTF-8"), ObjectMap.class).toString());
+		assertEquals("{a:'\u00e9\u4e2d'}", p.parse(new ByteArrayInputStream(xml.getBytes("UTF-8")), ObjectMap.class).toString());
+		assertEquals("{a:'\u00e9\u4e2d'}", XmlParser.DEFAULT.parse(xml.getBytes("UTF-8"), ObjectMap.class).toString());
+
+		// The input stream charset is used for decoding regardless of input path.
+		xml = "<object><a>\u00e9</a></object>";
+		p = XmlParser.create().strict().inputStreamCharset("ISO-8859-1").build();
+		assertEquals("{a:'\u00e9'}", p.parse(xml.getBytes("ISO-8859-1"), ObjectMap.class).toString());
+
+		// Malformed input is ignored in non-strict mode and reported in strict mode.
+		byte[] b = new byte[]{'<','a','>','x',(byte)0xFF,'<','/','a','>'};
+		assertEquals("x\ufffd", XmlParser.DEFAULT.parse(b, String.class));
+		try {
+			XmlParser.create().strict().build().parse(b, String.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			// OK
+		}
+	}
 }
\ No newline at end of file
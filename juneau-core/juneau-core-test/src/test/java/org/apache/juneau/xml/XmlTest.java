@@ -16,6 +16,7 @@ import static org.apache.juneau.testutils.TestUtils.*;
 import static org.apache.juneau.xml.annotation.XmlFormat.*;
 import static org.junit.Assert.*;
 
+import java.io.*;
 import java.net.*;
 import java.util.*;
 
@@ -1029,4 +1030,120 @@ public class XmlTest {
 			f3 = "f3";
 		}
 	}
+
+	//====================================================================================================
+	// Serializing to an output stream produces the same output as serializing to a string.
+	//====================================================================================================
+	@Test
+	public void testOutputStreamMatchesString() throws Exception {
+		R t = new R();
+		t.f1 = "x < y & \u00e9\u4e2d\ud83d\ude00";
+		t.f2 = new R();
+		t.f2.f1 = " _x0020_ \u0001";
+		t.f2.f3 = new String[]{"a", "\u00fc"};
+		t.f3 = new String[]{"b", null};
+
+		for (XmlSerializer s : new XmlSerializer[] {
+				XmlSerializer.DEFAULT,
+				XmlSerializer.DEFAULT_SQ_READABLE,
+				XmlSerializer.DEFAULT_NS,
+				XmlSerializer.create().ns().sq().addNamespaceUrisToRoot().autoDetectNamespaces(true).build(),
+				XmlSerializer.create().ns().defaultNamespace("http://ns").build()}) {
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			s.serialize(t, baos);
+			assertEquals(s.serialize(t), new String(baos.toByteArray(), "UTF-8"));
+		}
+	}
+
+	@Xml(prefix="ns", namespace="http://ns")
+	public static class R {
+
+		@Xml(prefix="nsf1", namespace="http://nsf1")
+		public String f1;
+
+		public R f2;
+
+		@BeanProperty(name="f\u00fc 3")
+		public String[] f3;
+	}
+
+	//====================================================================================================
+	// Detecting namespaces from class metadata produces the same namespaces as crawling a populated graph.
+	//====================================================================================================
+	@Test
+	public void testDetectNamespacesFromTypes() throws Exception {
+		XmlSerializerBuilder s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().autoDetectNamespaces(true);
+		XmlSerializer crawl = s.build(), types = s.detectNamespacesFromTypes().build();
+
+		S t = new S();
+		t.f2 = new AList<S2>().append(new S2());
+		t.f3 = new AMap<String,S2>().append("a", new S2());
+		t.f4 = new S3();
+		assertEquals(crawl.serialize(t), types.serialize(t));
+
+		// Namespaces reachable through declared types are added even when unused.
+		// Namespaces of values of Object properties are found from the values.
+		t = new S();
+		t.f5 = new S4();
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:foo='http://foo' xmlns:bar='http://bar' xmlns:corge='http://corge'><bar:f1>1</bar:f1><foo:f5 _type='object'><corge:f1>4</corge:f1></foo:f5></object>", crawl.serialize(t));
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:foo='http://foo' xmlns:bar='http://bar' xmlns:baz='http://baz' xmlns:qux='http://qux' xmlns:quux='http://quux' xmlns:corge='http://corge'><bar:f1>1</bar:f1><foo:f5 _type='object'><corge:f1>4</corge:f1></foo:f5></object>", types.serialize(t));
+
+		// Namespaces of entries of untyped collections and maps are found from the entries.
+		List<Object> l = new AList<>().append(new S4());
+		assertEquals("<array xmlns='http://www.apache.org/2013/Juneau' xmlns:corge='http://corge'><object><corge:f1>4</corge:f1></object></array>", types.serialize(l));
+		assertEquals(crawl.serialize(l), types.serialize(l));
+		Object[] a = new Object[]{new S4()};
+		assertEquals(crawl.serialize(a), types.serialize(a));
+		Map<String,Object> m = new AMap<String,Object>().append("a", new AList<>().append(new S4()));
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:corge='http://corge'><a _type='array'><object><corge:f1>4</corge:f1></object></a></object>", types.serialize(m));
+		assertEquals(crawl.serialize(m), types.serialize(m));
+
+		// Untyped values are found below properties whose declared types contain untyped values.
+		S5 t5 = new S5();
+		t5.f1.f5 = new S4();
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:foo='http://foo' xmlns:bar='http://bar' xmlns:baz='http://baz' xmlns:qux='http://qux' xmlns:quux='http://quux' xmlns:corge='http://corge'><foo:f1><bar:f1>1</bar:f1><foo:f5 _type='object'><corge:f1>4</corge:f1></foo:f5></foo:f1><f2><quux:f1>3</quux:f1></f2></object>", types.serialize(t5));
+	}
+
+	@Xml(prefix="foo", namespace="http://foo")
+	public static class S {
+
+		@Xml(prefix="bar", namespace="http://bar")
+		public String f1 = "1";
+
+		public List<S2> f2;
+
+		public Map<String,S2> f3;
+
+		public S3 f4;
+
+		public Object f5;
+	}
+
+	@Xml(prefix="baz", namespace="http://baz")
+	public static class S2 {
+
+		@Xml(prefix="qux", namespace="http://qux")
+		public int f1 = 2;
+
+		public S2 f2;
+	}
+
+	public static class S3 {
+
+		@Xml(prefix="quux", namespace="http://quux")
+		public int f1 = 3;
+	}
+
+	public static class S4 {
+
+		@Xml(prefix="corge", namespace="http://corge")
+		public int f1 = 4;
+	}
+
+	public static class S5 {
+
+		public S f1 = new S();
+
+		public S3 f2 = new S3();
+	}
 }
\ No newline at end of file
@@ -385,6 +385,18 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public RdfParserBuilder poolSessions(boolean value) {
+		super.poolSessions(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public RdfParserBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public RdfParserBuilder trimStrings(boolean value) {
 		super.trimStrings(value);
@@ -739,6 +751,18 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public RdfParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public RdfParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public RdfParserBuilder set(String name, Object value) {
 		super.set(name, value);
@@ -69,6 +69,13 @@ public class RdfParserSession extends ReaderParserSession {
 		}
 	}
 
+	@Override /* Session */
+	public void resetSession() {
+		super.resetSession();
+		model.removeAll();
+		urisVisited.clear();
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -524,6 +524,12 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public RdfSerializerBuilder recursionCheckDepth(int value) {
+		super.recursionCheckDepth(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public RdfSerializerBuilder sortCollections(boolean value) {
 		super.sortCollections(value);
@@ -548,6 +554,18 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public RdfSerializerBuilder poolSessions(boolean value) {
+		super.poolSessions(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public RdfSerializerBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public RdfSerializerBuilder trimEmptyCollections(boolean value) {
 		super.trimEmptyCollections(value);
@@ -938,6 +956,18 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public RdfSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public RdfSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public RdfSerializerBuilder set(String name, Object value) {
 		super.set(name, value);
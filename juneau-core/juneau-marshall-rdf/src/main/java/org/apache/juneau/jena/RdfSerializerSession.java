@@ -89,6 +89,18 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 				writer.setProperty(k.substring(15 + propPrefix.length()), getProperty(k));
 	}
 
+	@Override /* Session */
+	public void resetSession() {
+		super.resetSession();
+		model.removeAll();
+		for (String prefix : new ArrayList<>(model.getNsPrefixMap().keySet()))
+			model.removeNsPrefix(prefix);
+		addModelPrefix(ctx.getJuneauNs());
+		addModelPrefix(ctx.getJuneauBpNs());
+		for (Namespace ns : this.namespaces)
+			addModelPrefix(ns);
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
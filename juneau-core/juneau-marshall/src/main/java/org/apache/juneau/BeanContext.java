@@ -1857,6 +1857,50 @@ public class BeanContext extends Context {
 	 */
 	public static final String BEAN_useJavaBeanIntrospector = PREFIX + "useJavaBeanIntrospector.b";
 
+	/**
+	 * Configuration property:  Use method handles for bean property access.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"BeanContext.useMethodHandles.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link BeanContextBuilder#useMethodHandles(boolean)}
+	 * 			<li class='jm'>{@link BeanContextBuilder#useMethodHandles()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled, bean property getters, setters, and fields are accessed through {@link java.lang.invoke.MethodHandle}
+	 * objects created once when the bean metadata is constructed instead of through {@link Method#invoke(Object, Object...)},
+	 * {@link Field#get(Object)} and {@link Field#set(Object, Object)}.
+	 * <br>This avoids the per-call overhead of reflective invocation when serializing and parsing beans.
+	 *
+	 * <p>
+	 * Properties whose accessors cannot be looked up as method handles (e.g. dynamic <js>"*"</js> properties) continue to
+	 * use reflection.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that uses method handles to read bean properties.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.useMethodHandles()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>BEAN_useMethodHandles</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String BEAN_useMethodHandles = PREFIX + "useMethodHandles.b";
+
 	/*
 	 * The default package pattern exclusion list.
 	 * Any beans in packages in this list will not be considered beans.
@@ -1914,6 +1958,7 @@ public class BeanContext extends Context {
 		ignoreInvocationExceptionsOnGetters,
 		ignoreInvocationExceptionsOnSetters,
 		useJavaBeanIntrospector,
+		useMethodHandles,
 		useEnumNames,
 		sortProperties,
 		fluentSetters,
@@ -1942,6 +1987,8 @@ public class BeanContext extends Context {
 	private final int beanHashCode;
 
 	final Map<Class,ClassMeta> cmCache;
+	private final Map<Object,ClassMeta> ptCache = new ConcurrentHashMap<>();  // Resolved generic types (e.g. List<Foo>).
+	private final ThreadLocal<Map<Class,ClassMeta>> pendingClassMetas = new ThreadLocal<>();
 	private final ClassMeta<Object> cmObject;  // Reusable ClassMeta that represents general Objects.
 	private final ClassMeta<String> cmString;  // Reusable ClassMeta that represents general Strings.
 	private final ClassMeta<Class> cmClass;  // Reusable ClassMeta that represents general Classes.
@@ -1976,6 +2023,7 @@ public class BeanContext extends Context {
 		ignoreInvocationExceptionsOnGetters = getBooleanProperty(BEAN_ignoreInvocationExceptionsOnGetters, false);
 		ignoreInvocationExceptionsOnSetters = getBooleanProperty(BEAN_ignoreInvocationExceptionsOnSetters, false);
 		useJavaBeanIntrospector = getBooleanProperty(BEAN_useJavaBeanIntrospector, false);
+		useMethodHandles = getBooleanProperty(BEAN_useMethodHandles, false);
 		sortProperties = getBooleanProperty(BEAN_sortProperties, false);
 		fluentSetters = getBooleanProperty(BEAN_fluentSetters, false);
 		beanTypePropertyName = getStringProperty(BEAN_beanTypePropertyName, "_type");
@@ -2228,6 +2276,53 @@ public class BeanContext extends Context {
 		return getClassMeta(c).getBeanMeta();
 	}
 
+	/**
+	 * Eagerly builds the class metadata for the specified classes in parallel on the common {@link ForkJoinPool}.
+	 *
+	 * <p>
+	 * Class metadata is normally built lazily the first time a class is serialized or parsed.
+	 * Calling this method at startup moves the cost of reflection and annotation scanning out of the first requests.
+	 * Metadata for bean property types is built along with the beans that contain them.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	JsonSerializer.<jsf>DEFAULT</jsf>.warmUp(AddressBook.<jk>class</jk>, Person.<jk>class</jk>);
+	 * </p>
+	 *
+	 * @param classes The classes to build metadata for.
+	 * @return This object (for method chaining).
+	 * @throws RuntimeException If metadata could not be built for one of the classes.
+	 */
+	public final BeanContext warmUp(Class<?>...classes) {
+		return warmUp(ForkJoinPool.commonPool(), classes);
+	}
+
+	/**
+	 * Same as {@link #warmUp(Class...)} but uses the specified pool.
+	 *
+	 * <p>
+	 * This method blocks until metadata for all the classes has been built.
+	 *
+	 * @param pool The pool to build metadata on.
+	 * @param classes The classes to build metadata for.
+	 * @return This object (for method chaining).
+	 * @throws RuntimeException If metadata could not be built for one of the classes.
+	 */
+	public final BeanContext warmUp(ForkJoinPool pool, Class<?>...classes) {
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(classes.length);
+		for (final Class<?> c : classes) {
+			tasks.add(pool.submit(new Runnable() {
+				@Override /* Runnable */
+				public void run() {
+					getClassMeta(c);
+				}
+			}));
+		}
+		for (ForkJoinTask<?> t : tasks)
+			t.join();
+		return this;
+	}
+
 	/**
 	 * Construct a {@code ClassMeta} wrapper around a {@link Class} object.
 	 *
@@ -2265,20 +2360,58 @@ public class BeanContext extends Context {
 			return null;
 
 		ClassMeta<T> cm = cmCache.get(type);
-		if (cm == null) {
-
-			synchronized (this) {
-				// Make sure someone didn't already set it while this thread was blocked.
-				cm = cmCache.get(type);
-				if (cm == null)
-					cm = new ClassMeta<>(type, this, findImplClass(type), findBeanFilter(type), findPojoSwaps(type), findChildPojoSwaps(type), findExample(type));
-			}
-		}
+		if (cm == null)
+			cm = createClassMeta(type);
 		if (waitForInit)
 			cm.waitForInit();
 		return cm;
 	}
 
+	/*
+	 * Constructs a ClassMeta without holding any locks.
+	 *
+	 * ClassMetas created while this one is being constructed (including recursive references back to it) are kept in
+	 * a thread-local map and only published to the shared cache once the outermost constructor has finished.
+	 * This way other threads never see partially-initialized objects and never have to wait on each other.
+	 * If another thread published the same class first, its instance is returned instead.
+	 */
+	private <T> ClassMeta<T> createClassMeta(Class<T> type) {
+		Map<Class,ClassMeta> pending = pendingClassMetas.get();
+		if (pending != null) {
+			ClassMeta<T> cm = pending.get(type);
+			if (cm == null)
+				cm = new ClassMeta<>(type, this, findImplClass(type), findBeanFilter(type), findPojoSwaps(type), findChildPojoSwaps(type), findExample(type));
+			return cm;
+		}
+
+		pending = new LinkedHashMap<>();
+		pendingClassMetas.set(pending);
+		ClassMeta<T> cm = null;
+		try {
+			cm = new ClassMeta<>(type, this, findImplClass(type), findBeanFilter(type), findPojoSwaps(type), findChildPojoSwaps(type), findExample(type));
+		} finally {
+			pendingClassMetas.remove();
+			if (cmCache != null)
+				for (Map.Entry<Class,ClassMeta> e : pending.entrySet())
+					cmCache.putIfAbsent(e.getKey(), e.getValue());
+		}
+		ClassMeta<T> cm2 = cmCache == null ? null : cmCache.get(type);
+		return cm2 == null ? cm : cm2;
+	}
+
+	/*
+	 * Called by the ClassMeta constructor before it initializes itself so that recursive references can be resolved.
+	 */
+	final void registerClassMeta(Class<?> c, ClassMeta<?> cm) {
+		if (cmCache == null)
+			return;
+		Map<Class,ClassMeta> pending = pendingClassMetas.get();
+		if (pending != null)
+			pending.put(c, cm);
+		else
+			cmCache.putIfAbsent(c, cm);
+	}
+
 	/**
 	 * Used to resolve <code>ClassMetas</code> of type <code>Collection</code> and <code>Map</code> that have
 	 * <code>ClassMeta</code> values that themselves could be collections or maps.
@@ -2323,13 +2456,39 @@ public class BeanContext extends Context {
 		ClassMeta<T> cm = type instanceof Class ? getClassMeta((Class)type) : resolveClassMeta(type, null);
 		if (args.length == 0)
 			return cm;
+
+		List<Type> key = isCacheableTypeKey(type, args) ? new ArrayList<Type>(args.length+1) : null;
+		if (key != null) {
+			key.add(type);
+			key.addAll(Arrays.asList(args));
+			ClassMeta<T> cm2 = ptCache.get(key);
+			if (cm2 != null)
+				return cm2;
+		}
+
 		ClassMeta<?>[] cma = new ClassMeta[args.length+1];
 		cma[0] = cm;
 		for (int i = 0; i < Array.getLength(args); i++) {
 			Type arg = (Type)Array.get(args, i);
 			cma[i+1] = arg instanceof Class ? getClassMeta((Class)arg) : resolveClassMeta(arg, null);
 		}
-		return (ClassMeta<T>) getTypedClassMeta(cma, 0);
+		cm = (ClassMeta<T>) getTypedClassMeta(cma, 0);
+		if (key != null && pendingClassMetas.get() == null)
+			ptCache.putIfAbsent(key, cm);
+		return cm;
+	}
+
+	/*
+	 * Returns true if the specified type and args can be used in a ptCache key.
+	 * ClassMetas are excluded since their equality only considers the raw class.
+	 */
+	private static boolean isCacheableTypeKey(Type type, Type[] args) {
+		if (! (type instanceof Class || type instanceof ParameterizedType))
+			return false;
+		for (Type t : args)
+			if (! (t instanceof Class || t instanceof ParameterizedType))
+				return false;
+		return true;
 	}
 
 	/*
@@ -2349,6 +2508,23 @@ public class BeanContext extends Context {
 	}
 
 	final ClassMeta resolveClassMeta(Type o, Map<Class<?>,Class<?>[]> typeVarImpls) {
+
+		// Generic types such as List<Foo> are resolved once and cached.
+		// Types resolved while ClassMetas are being constructed aren't cached since they may reference
+		// objects that aren't fully initialized yet.
+		if (o instanceof ParameterizedType && typeVarImpls == null) {
+			ClassMeta cm = ptCache.get(o);
+			if (cm == null) {
+				cm = resolveClassMetaUncached(o, null);
+				if (pendingClassMetas.get() == null)
+					ptCache.putIfAbsent(o, cm);
+			}
+			return cm;
+		}
+		return resolveClassMetaUncached(o, typeVarImpls);
+	}
+
+	private ClassMeta resolveClassMetaUncached(Type o, Map<Class<?>,Class<?>[]> typeVarImpls) {
 		if (o == null)
 			return null;
 
@@ -2991,6 +3167,17 @@ public class BeanContext extends Context {
 		return useJavaBeanIntrospector;
 	}
 
+	/**
+	 * Configuration property:  Use method handles for bean property access.
+	 *
+	 * @see #BEAN_useMethodHandles
+	 * @return
+	 * 	<jk>true</jk> if bean properties are accessed through method handles instead of reflection.
+	 */
+	protected final boolean isUseMethodHandles() {
+		return useMethodHandles;
+	}
+
 	/**
 	 * Configuration property:  Use enum names.
 	 *
@@ -3184,6 +3371,7 @@ public class BeanContext extends Context {
 				.append("useEnumNames", useEnumNames)
 				.append("useInterfaceProxies", useInterfaceProxies)
 				.append("useJavaBeanIntrospector", useJavaBeanIntrospector)
+				.append("useMethodHandles", useMethodHandles)
 			);
 	}
 }
\ No newline at end of file
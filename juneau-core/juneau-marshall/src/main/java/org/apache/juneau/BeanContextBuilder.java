@@ -1418,6 +1418,44 @@ public class BeanContextBuilder extends ContextBuilder {
 		return set(BEAN_useJavaBeanIntrospector, true);
 	}
 
+	/**
+	 * Configuration property:  Use method handles for bean property access.
+	 *
+	 * <p>
+	 * When enabled, bean getters, setters, and fields are accessed through method handles created once per bean
+	 * property instead of through reflection.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link BeanContext#BEAN_useMethodHandles}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public BeanContextBuilder useMethodHandles(boolean value) {
+		return set(BEAN_useMethodHandles, value);
+	}
+
+	/**
+	 * Configuration property:  Use method handles for bean property access.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>useMethodHandles(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link BeanContext#BEAN_useMethodHandles}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public BeanContextBuilder useMethodHandles() {
+		return set(BEAN_useMethodHandles, true);
+	}
+
 	@Override /* ContextBuilder */
 	public BeanContextBuilder set(String name, Object value) {
 		super.set(name, value);
@@ -24,6 +24,7 @@ import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.annotation.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.transform.*;
 import org.apache.juneau.utils.*;
 
@@ -69,6 +70,9 @@ public class BeanMeta<T> {
 	/** The properties on the target class. */
 	protected final Map<String,BeanPropertyMeta> properties;
 
+	/** The properties on the target class indexed for lookup by character sequence. */
+	protected final NameIndex<BeanPropertyMeta> propertyIndex;
+
 	/** The getter properties on the target class. */
 	protected final Map<Method,String> getterProps;
 
@@ -121,6 +125,7 @@ public class BeanMeta<T> {
 		this.beanFilter = beanFilter;
 		this.dictionaryName = b.dictionaryName;
 		this.properties = unmodifiableMap(b.properties);
+		this.propertyIndex = new NameIndex<>(this.properties);
 		this.getterProps = unmodifiableMap(b.getterProps);
 		this.setterProps = unmodifiableMap(b.setterProps);
 		this.dynaProperty = b.dynaProperty;
@@ -803,6 +808,37 @@ public class BeanMeta<T> {
 		return bpm;
 	}
 
+	/**
+	 * Returns the name of the property on this bean with the same characters as the specified name.
+	 *
+	 * <p>
+	 * Allows parsers to match property names directly against their read buffers (see
+	 * {@link org.apache.juneau.parser.ParserReader#getMarkedView(int, int)}) and reuse the stored name instead of
+	 * creating a new string for every parsed key.
+	 *
+	 * @param name The property name characters.
+	 * @return The property name, or <jk>null</jk> if no such property exists on this bean.
+	 */
+	public String getPropertyName(CharSequence name) {
+		return propertyIndex.getName(name);
+	}
+
+	/**
+	 * Same as {@link #getPropertyName(CharSequence)} but matches a UTF-8 encoded name in a byte array.
+	 *
+	 * <p>
+	 * Only ASCII names are matched.
+	 * <br>For anything else, <jk>null</jk> is returned and the name must be decoded and looked up as characters.
+	 *
+	 * @param b The byte array containing the name.
+	 * @param off The offset of the name in the array.
+	 * @param len The length in bytes of the name.
+	 * @return The property name, or <jk>null</jk> if no such property exists on this bean or the name isn't ASCII.
+	 */
+	public String getPropertyName(byte[] b, int off, int len) {
+		return propertyIndex.getName(b, off, len);
+	}
+
 	/**
 	 * Creates a new instance of this bean.
 	 *
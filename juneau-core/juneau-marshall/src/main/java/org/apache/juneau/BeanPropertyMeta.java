@@ -18,6 +18,7 @@ import static org.apache.juneau.internal.CollectionUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.lang.annotation.*;
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.net.*;
 import java.net.URI;
@@ -52,6 +53,7 @@ public final class BeanPropertyMeta {
 	private final Field field;                                // The bean property field (if it has one).
 	private final Field innerField;                                // The bean property field (if it has one).
 	private final Method getter, setter, extraKeys;           // The bean property getter and setter.
+	private final MethodHandle getterHandle, setterHandle;    // Method handles for the getter/setter or field (if BEAN_useMethodHandles is enabled).
 	private final boolean isUri;                              // True if this is a URL/URI or annotated with @URI.
 	private final boolean isDyna, isDynaGetterMap;            // This is a dyna property (i.e. name="*")
 
@@ -388,6 +390,58 @@ public final class BeanPropertyMeta {
 		this.isDynaGetterMap = b.isDynaGetterMap;
 		this.canRead = b.canRead;
 		this.canWrite = b.canWrite;
+
+		boolean useHandles = beanContext.isUseMethodHandles() && ! isDyna;
+		this.getterHandle = useHandles ? findGetterHandle(getter, field) : null;
+		this.setterHandle = useHandles ? findSetterHandle(setter, field) : null;
+	}
+
+	/*
+	 * Returns a method handle of type (Object)Object for reading the property from the getter or field, or null if
+	 * one could not be created (in which case reflection is used).
+	 */
+	private static MethodHandle findGetterHandle(Method getter, Field field) {
+		try {
+			MethodHandle mh = null;
+			if (getter != null && ! Modifier.isStatic(getter.getModifiers()))
+				mh = MethodHandles.lookup().unreflect(getter).asFixedArity();
+			else if (getter == null && field != null && ! Modifier.isStatic(field.getModifiers()))
+				mh = MethodHandles.lookup().unreflectGetter(field);
+			return mh == null ? null : mh.asType(MethodType.methodType(Object.class, Object.class));
+		} catch (IllegalAccessException | WrongMethodTypeException e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Returns a method handle of type (Object,Object)Object for writing the property through the setter or field, or
+	 * null if one could not be created (in which case reflection is used).
+	 */
+	private static MethodHandle findSetterHandle(Method setter, Field field) {
+		try {
+			MethodHandle mh = null;
+			if (setter != null && ! Modifier.isStatic(setter.getModifiers()))
+				mh = MethodHandles.lookup().unreflect(setter).asFixedArity();
+			else if (setter == null && field != null && ! Modifier.isStatic(field.getModifiers()))
+				mh = MethodHandles.lookup().unreflectSetter(field);
+			return mh == null ? null : mh.asType(MethodType.methodType(Object.class, Object.class, Object.class));
+		} catch (IllegalAccessException | WrongMethodTypeException e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Returns true if this property is read through a method handle instead of reflection.
+	 */
+	boolean hasGetterHandle() {
+		return getterHandle != null;
+	}
+
+	/*
+	 * Returns true if this property is written through a method handle instead of reflection.
+	 */
+	boolean hasSetterHandle() {
+		return setterHandle != null;
 	}
 
 	/**
@@ -812,6 +866,13 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 			return (m == null ? null : m.get(pName));
 		}
+		if (getterHandle != null) {
+			try {
+				return (Object)getterHandle.invokeExact(bean);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
 		if (getter != null)
 			return getter.invoke(bean);
 		if (field != null)
@@ -832,6 +893,13 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter is defined on this property, and the existing property value is null", name, this.getClassMeta().getInnerClass().getName(), findClassName(val));
 			return (m == null ? null : m.put(pName, val));
 		}
+		if (setterHandle != null) {
+			try {
+				return (Object)setterHandle.invokeExact(bean, val);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
 		if (setter != null)
 			return setter.invoke(bean, val);
 		if (field != null) {
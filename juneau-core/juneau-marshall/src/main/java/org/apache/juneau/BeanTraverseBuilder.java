@@ -173,6 +173,26 @@ public class BeanTraverseBuilder extends BeanContextBuilder {
 		return set(BEANTRAVERSE_maxDepth, value);
 	}
 
+	/**
+	 * Configuration property:  Recursion check depth.
+	 *
+	 * <p>
+	 * Only check objects for recursion once the traversal is at least this many levels deep.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link BeanTraverseContext#BEANTRAVERSE_recursionCheckDepth}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <code>0</code>.
+	 * @return This object (for method chaining).
+	 */
+	public BeanTraverseBuilder recursionCheckDepth(int value) {
+		return set(BEANTRAVERSE_recursionCheckDepth, value);
+	}
+
 
 	@Override /* BeanContextBuilder */
 	public BeanTraverseBuilder beanClassVisibility(Visibility value) {
@@ -504,6 +524,18 @@ public class BeanTraverseBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public BeanTraverseBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public BeanTraverseBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public BeanTraverseBuilder set(String name, Object value) {
 		super.set(name, value);
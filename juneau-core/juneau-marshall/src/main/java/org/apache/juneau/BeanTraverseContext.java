@@ -207,11 +207,57 @@ public abstract class BeanTraverseContext extends BeanContext {
 	 */
 	public static final String BEANTRAVERSE_maxDepth = PREFIX + "maxDepth.i";
 
+	/**
+	 * Configuration property:  Recursion check depth.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"BeanTraverseContext.recursionCheckDepth.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>0</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link BeanTraverseBuilder#recursionCheckDepth(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * Used in conjunction with {@link #BEANTRAVERSE_detectRecursions}.
+	 * <br>Objects are only checked for recursion once the traversal is at least this many levels deep.
+	 *
+	 * <p>
+	 * A loop in the model is still detected, just a few levels later than it otherwise would be, since the objects
+	 * making up the loop keep reappearing deeper in the traversal.
+	 * <br>Setting this to a depth that most models never reach avoids the cost of recursion checks on shallow models
+	 * while still preventing unbounded traversal of recursive ones.
+	 * <br>Errors produced when recursions are detected contain the full stack starting from the root.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that only checks for recursions past a depth of 10.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.detectRecursions()
+	 * 		.recursionCheckDepth(10)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>BEANTRAVERSE_detectRecursions</jsf>, <jk>true</jk>)
+	 * 		.set(<jsf>BEANTRAVERSE_recursionCheckDepth</jsf>, 10)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String BEANTRAVERSE_recursionCheckDepth = PREFIX + "recursionCheckDepth.i";
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
-	private final int initialDepth, maxDepth;
+	private final int initialDepth, maxDepth, recursionCheckDepth;
 	private final boolean
 		detectRecursions,
 		ignoreRecursions;
@@ -227,6 +273,7 @@ public abstract class BeanTraverseContext extends BeanContext {
 
 		maxDepth = getIntegerProperty(BEANTRAVERSE_maxDepth, 100);
 		initialDepth = getIntegerProperty(BEANTRAVERSE_initialDepth, 0);
+		recursionCheckDepth = getIntegerProperty(BEANTRAVERSE_recursionCheckDepth, 0);
 		detectRecursions = getBooleanProperty(BEANTRAVERSE_detectRecursions, false);
 		ignoreRecursions = getBooleanProperty(BEANTRAVERSE_ignoreRecursions, false);
 	}
@@ -269,6 +316,17 @@ public abstract class BeanTraverseContext extends BeanContext {
 		return maxDepth;
 	}
 
+	/**
+	 * Configuration property:  Recursion check depth.
+	 *
+	 * @see #BEANTRAVERSE_recursionCheckDepth
+	 * @return
+	 * 	The depth at which objects start being checked for recursion.
+	 */
+	protected final int getRecursionCheckDepth() {
+		return recursionCheckDepth;
+	}
+
 	/**
 	 * Configuration property:  Automatically detect POJO recursions.
 	 * @see #BEANTRAVERSE_detectRecursions
@@ -297,6 +355,7 @@ public abstract class BeanTraverseContext extends BeanContext {
 			.append("BeanTraverseContext", new ObjectMap()
 				.append("maxDepth", maxDepth)
 				.append("initialDepth", initialDepth)
+				.append("recursionCheckDepth", recursionCheckDepth)
 				.append("detectRecursions", detectRecursions)
 				.append("ignoreRecursions", ignoreRecursions)
 			);
@@ -17,6 +17,8 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.text.*;
 import java.util.*;
 
+import org.apache.juneau.internal.*;
+
 /**
  * Session that lives for the duration of a single use of {@link BeanTraverseContext}.
  *
@@ -37,9 +39,13 @@ import java.util.*;
  */
 public class BeanTraverseSession extends BeanSession {
 
+	private static final StackElement[] EMPTY_STACK = new StackElement[0];
+
 	private final BeanTraverseContext ctx;
-	private final Map<Object,Object> set;                                           // Contains the current objects in the current branch of the model.
-	private final LinkedList<StackElement> stack = new LinkedList<>();              // Contains the current objects in the current branch of the model.
+	private final IdentitySet set;                                                  // Contains the current objects in the current branch of the model.
+	private final int recursionCheckDepth;                                          // Stack depth at which objects start getting added to the set.
+	private StackElement[] stack = EMPTY_STACK;                                     // Contains the current objects in the current branch of the model.
+	private int stackSize;                                                          // Number of elements in use in the stack array.
 
 	// Writable properties
 	private boolean isBottom;                                                       // If 'true', then we're at a leaf in the model (i.e. a String, Number, Boolean, or null).
@@ -69,10 +75,12 @@ public class BeanTraverseSession extends BeanSession {
 		this.ctx = ctx;
 		this.indent = getInitialDepth();
 		if (isDetectRecursions() || isDebug()) {
-			set = new IdentityHashMap<>();
+			set = new IdentitySet();
+			stack = new StackElement[16];
 		} else {
-			set = Collections.emptyMap();
+			set = null;
 		}
+		this.recursionCheckDepth = isDebug() ? 0 : getRecursionCheckDepth();
 	}
 
 	/**
@@ -114,19 +122,33 @@ public class BeanTraverseSession extends BeanSession {
 		if (cm.isCharSequence() || cm.isNumber() || cm.isBoolean())
 			return cm;
 		if (isDetectRecursions() || isDebug()) {
-			if (stack.size() > getMaxDepth())
+			if (stackSize > getMaxDepth())
 				return null;
 			if (willRecurse(attrName, o, cm))
 				return null;
 			isBottom = false;
-			stack.add(new StackElement(stack.size(), attrName, o, cm));
+			if (stackSize >= recursionCheckDepth)
+				set.add(o);
+			pushElement(attrName, o, cm);
 			if (isDebug())
 				getLogger().info(getStack(false));
-			set.put(o, o);
 		}
 		return cm;
 	}
 
+	/*
+	 * Adds an element to the top of the stack, reusing a previously allocated element if there is one.
+	 */
+	private void pushElement(String attrName, Object o, ClassMeta<?> cm) {
+		if (stackSize == stack.length)
+			stack = Arrays.copyOf(stack, stackSize << 1);
+		StackElement e = stack[stackSize];
+		if (e == null)
+			e = stack[stackSize] = new StackElement();
+		e.set(stackSize, attrName, o, cm);
+		stackSize++;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if {@link BeanTraverseContext#BEANTRAVERSE_detectRecursions} is enabled, and the specified
 	 * object is already higher up in the traversal chain.
@@ -140,12 +162,12 @@ public class BeanTraverseSession extends BeanSession {
 	protected final boolean willRecurse(String attrName, Object o, ClassMeta<?> cm) throws BeanRecursionException {
 		if (! (isDetectRecursions() || isDebug()))
 			return false;
-		if (! set.containsKey(o))
+		if (stackSize < recursionCheckDepth || ! set.contains(o))
 			return false;
 		if (isIgnoreRecursions() && ! isDebug())
 			return true;
 
-		stack.add(new StackElement(stack.size(), attrName, o, cm));
+		pushElement(attrName, o, cm);
 		throw new BeanRecursionException("Recursion occurred, stack={0}", getStack(true));
 	}
 
@@ -155,15 +177,30 @@ public class BeanTraverseSession extends BeanSession {
 	protected final void pop() {
 		indent--;
 		if ((isDetectRecursions() || isDebug()) && ! isBottom)  {
-			Object o = stack.removeLast().o;
-			Object o2 = set.remove(o);
-			if (o2 == null)
+			StackElement e = stack[--stackSize];
+			Object o = e.o;
+			e.o = null;
+			if (stackSize >= recursionCheckDepth && ! set.remove(o))
 				onError(null, "Couldn't remove object of type ''{0}'' on attribute ''{1}'' from object stack.",
-					o.getClass().getName(), stack);
+					o.getClass().getName(), e.name);
 		}
 		isBottom = false;
 	}
 
+	@Override /* Session */
+	public void resetSession() {
+		super.resetSession();
+		for (int i = 0; i < stackSize; i++)
+			stack[i].o = null;
+		stackSize = 0;
+		if (set != null)
+			set.clear();
+		isBottom = false;
+		currentProperty = null;
+		currentClass = null;
+		indent = getInitialDepth();
+	}
+
 	/**
 	 * Logs a warning message.
 	 *
@@ -176,18 +213,24 @@ public class BeanTraverseSession extends BeanSession {
 	}
 
 	private final class StackElement {
-		final int depth;
-		final String name;
-		final Object o;
-		final ClassMeta<?> aType;
+		int depth;
+		String name;
+		Object o;
+		ClassMeta<?> aType;
 
-		StackElement(int depth, String name, Object o, ClassMeta<?> aType) {
+		void set(int depth, String name, Object o, ClassMeta<?> aType) {
 			this.depth = depth;
 			this.name = name;
 			this.o = o;
 			this.aType = aType;
 		}
 
+		StackElement copy() {
+			StackElement e = new StackElement();
+			e.set(depth, name, o, aType);
+			return e;
+		}
+
 		String toString(boolean simple) {
 			StringBuilder sb = new StringBuilder().append('[').append(depth).append(']').append(' ');
 			sb.append(isEmpty(name) ? "<noname>" : name).append(':');
@@ -207,7 +250,8 @@ public class BeanTraverseSession extends BeanSession {
 	 */
 	protected String getStack(boolean full) {
 		StringBuilder sb = new StringBuilder();
-		for (StackElement e : stack) {
+		for (int j = 0; j < stackSize; j++) {
+			StackElement e = stack[j];
 			if (full) {
 				sb.append("\n\t");
 				for (int i = 1; i < e.depth; i++)
@@ -233,8 +277,12 @@ public class BeanTraverseSession extends BeanSession {
 			m.put("currentClass", currentClass);
 		if (currentProperty != null)
 			m.put("currentProperty", currentProperty);
-		if (stack != null && ! stack.isEmpty())
-			m.put("stack", stack);
+		if (stackSize > 0) {
+			List<StackElement> l = new ArrayList<>(stackSize);
+			for (int i = 0; i < stackSize; i++)
+				l.add(stack[i].copy());
+			m.put("stack", l);
+		}
 		return m;
 	}
 
@@ -265,6 +313,17 @@ public class BeanTraverseSession extends BeanSession {
 		return ctx.getMaxDepth();
 	}
 
+	/**
+	 * Configuration property:  Recursion check depth.
+	 *
+	 * @see BeanTraverseContext#BEANTRAVERSE_recursionCheckDepth
+	 * @return
+	 * 	The depth at which objects start being checked for recursion.
+	 */
+	protected final int getRecursionCheckDepth() {
+		return ctx.getRecursionCheckDepth();
+	}
+
 	/**
 	 * Configuration property:  Automatically detect POJO recursions.
 	 *
@@ -157,9 +157,9 @@ public final class ClassMeta<T> implements Type {
 
 		wLock.lock();
 		try {
-			// We always immediately add this class meta to the bean context cache so that we can resolve recursive references.
-			if (beanContext != null && beanContext.cmCache != null)
-				beanContext.cmCache.put(innerClass, this);
+			// We always immediately register this class meta with the bean context so that we can resolve recursive references.
+			if (beanContext != null)
+				beanContext.registerClassMeta(innerClass, this);
 
 			ClassMetaBuilder<T> builder = new ClassMetaBuilder(innerClass, beanContext, implClass, beanFilter, pojoSwaps, childPojoSwaps, example);
 
@@ -1421,6 +1421,26 @@ public final class ClassMeta<T> implements Type {
 		return cc == INPUTSTREAM;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this class is a cursor-like source of elements that serializers can write out as an
+	 * array one element at a time.
+	 *
+	 * <p>
+	 * This includes {@link Iterator}, {@link Enumeration}, and {@link java.util.stream.BaseStream}.
+	 * <br>Other {@link Iterable} classes that aren't collections are still serialized using <code>toString()</code>,
+	 * but can be streamed by defining a {@link PojoSwap} that swaps them for their {@link Iterator}.
+	 *
+	 * @return <jk>true</jk> if this class can be streamed element-by-element.
+	 */
+	public boolean isStreamable() {
+		if (cc != OTHER || beanMeta != null)
+			return false;
+		Class<?> c = innerClass;
+		return Iterator.class.isAssignableFrom(c)
+			|| Enumeration.class.isAssignableFrom(c)
+			|| java.util.stream.BaseStream.class.isAssignableFrom(c);
+	}
+
 	/**
 	 * Returns <jk>true</jk> if this class is {@link Void} or <jk>void</jk>.
 	 *
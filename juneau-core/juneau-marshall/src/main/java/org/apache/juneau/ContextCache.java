@@ -14,6 +14,7 @@ package org.apache.juneau;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.apache.juneau.internal.*;
 
@@ -35,27 +36,26 @@ public class ContextCache {
 	 */
 	public static final ContextCache INSTANCE = new ContextCache();
 
-	private final static boolean USE_DEEP_MATCHING = Boolean.getBoolean("ContextCache.useDeepMatching");
-
-	private final ConcurrentHashMap<Class<?>,ConcurrentHashMap<Integer,CacheEntry>> contextCache = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Class<?>,ConcurrentHashMap<CacheKey,Context>> contextCache = new ConcurrentHashMap<>();
 	private final ConcurrentHashMap<Class<?>,String[]> prefixCache = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Class<?>,CacheHit> cacheHits = new ConcurrentHashMap<>();
 
 	// When enabled, this will spit out cache-hit metrics to the console on shutdown.
 	private static final boolean TRACK_CACHE_HITS = Boolean.getBoolean("juneau.trackCacheHits");
-	static final Map<String,CacheHit> CACHE_HITS = new ConcurrentHashMap<>();
 	static {
 		if (TRACK_CACHE_HITS) {
 			Runtime.getRuntime().addShutdownHook(
 				new Thread() {
 					@Override
 					public void run() {
-						int creates=0, cached=0;
+						long creates=0, cached=0;
 						System.out.println("Cache Hits:  [CacheObject] = [numCreated,numCached,cacheHitPercentage]");
-						for (Map.Entry<String,CacheHit> e : CACHE_HITS.entrySet()) {
+						for (Map.Entry<Class<?>,CacheHit> e : INSTANCE.cacheHits.entrySet()) {
 							CacheHit ch = e.getValue();
-							System.out.println("["+e.getKey()+"] = ["+ch.creates+","+ch.cached+","+((ch.cached*100)/(ch.creates+ch.cached))+"%]");
-							creates += ch.creates;
-							cached += ch.cached;
+							long c1 = ch.creates.get(), c2 = ch.cached.get();
+							System.out.println("["+e.getKey().getSimpleName()+"] = ["+c1+","+c2+","+((c2*100)/(c1+c2))+"%]");
+							creates += c1;
+							cached += c2;
 						}
 						if (creates + cached > 0)
 							System.out.println("[total] = ["+creates+","+cached+","+((cached*100)/(creates+cached))+"%]");
@@ -65,24 +65,8 @@ public class ContextCache {
 		}
 	}
 
-	static void logCache(Class<?> contextClass, boolean wasCached) {
-		if (TRACK_CACHE_HITS) {
-			synchronized(ContextCache.class) {
-				String c = contextClass.getSimpleName();
-				CacheHit ch = CACHE_HITS.get(c);
-				if (ch == null)
-					ch = new CacheHit();
-				if (wasCached)
-					ch.cached++;
-				else
-					ch.creates++;
-				ch = CACHE_HITS.put(c, ch);
-			}
-		}
-	}
-
 	static class CacheHit {
-		public int creates, cached;
+		final AtomicLong creates = new AtomicLong(), cached = new AtomicLong();
 	}
 
 	ContextCache() {}
@@ -91,51 +75,85 @@ public class ContextCache {
 	 * Creates a new instance of the specified context-based class, or an existing instance if one with the same
 	 * property store was already created.
 	 *
+	 * <p>
+	 * Contexts are matched on the property groups that apply to the class and its parent classes.
+	 * Property stores and groups are interned when they're built, so matching is normally an identity check.
+	 *
 	 * @param c The instance of the class to create.
 	 * @param ps The property store to use to create the class.
 	 * @return The
 	 */
 	public <T extends Context> T create(Class<T> c, PropertyStore ps) {
-		ConcurrentHashMap<Integer,CacheEntry> m = getContextCache(c);
-		String[] prefixes = getPrefixes(c);
-
-		Integer hashCode = ps.hashCode(prefixes);
-		CacheEntry ce = m.get(hashCode);
-
-		if (ce != null && USE_DEEP_MATCHING && ! ce.ps.equals(ps))
-			throw new ContextRuntimeException("Property store hashcode mismatch!", new Object[0]);
-
-		logCache(c, ce != null);
+		ConcurrentHashMap<CacheKey,Context> m = getContextCache(c);
+		CacheKey key = new CacheKey(ps, getPrefixes(c));
+		Context context = m.get(key);
+		CacheHit ch = getCacheHit(c);
+
+		if (context != null) {
+			ch.cached.incrementAndGet();
+			return (T)context;
+		}
 
-		if (ce == null) {
-			try {
-				ce = new CacheEntry(ps, newInstance(c, ps));
-			} catch (ContextRuntimeException e) {
-				throw e;
-			} catch (Exception e) {
-				throw new ContextRuntimeException(e, "Could not create instance of class ''{0}''", c);
-			}
-			m.putIfAbsent(hashCode, ce);
+		ch.creates.incrementAndGet();
+		try {
+			context = newInstance(c, ps);
+		} catch (ContextRuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ContextRuntimeException(e, "Could not create instance of class ''{0}''", c);
 		}
+		Context context2 = m.putIfAbsent(key, context);
+		return (T)(context2 == null ? context : context2);
+	}
 
-		return (T)ce.context;
+	/**
+	 * Returns the number of times {@link #create(Class, PropertyStore)} created a new instance of the specified class.
+	 *
+	 * @param c The context class.
+	 * @return The number of new instances created.
+	 */
+	public long getCreateCount(Class<? extends Context> c) {
+		CacheHit ch = cacheHits.get(c);
+		return ch == null ? 0 : ch.creates.get();
 	}
 
-	private ConcurrentHashMap<Integer,CacheEntry> getContextCache(Class<?> c) {
-		ConcurrentHashMap<Integer,CacheEntry> m = contextCache.get(c);
+	/**
+	 * Returns the number of times {@link #create(Class, PropertyStore)} returned a cached instance of the specified class.
+	 *
+	 * @param c The context class.
+	 * @return The number of cache hits.
+	 */
+	public long getHitCount(Class<? extends Context> c) {
+		CacheHit ch = cacheHits.get(c);
+		return ch == null ? 0 : ch.cached.get();
+	}
+
+	private ConcurrentHashMap<CacheKey,Context> getContextCache(Class<?> c) {
+		ConcurrentHashMap<CacheKey,Context> m = contextCache.get(c);
 		if (m == null) {
 			m = new ConcurrentHashMap<>();
-			ConcurrentHashMap<Integer,CacheEntry> m2 = contextCache.putIfAbsent(c, m);
+			ConcurrentHashMap<CacheKey,Context> m2 = contextCache.putIfAbsent(c, m);
 			if (m2 != null)
 				m = m2;
 		}
 		return m;
 	}
 
+	private CacheHit getCacheHit(Class<?> c) {
+		CacheHit ch = cacheHits.get(c);
+		if (ch == null) {
+			ch = new CacheHit();
+			CacheHit ch2 = cacheHits.putIfAbsent(c, ch);
+			if (ch2 != null)
+				ch = ch2;
+		}
+		return ch;
+	}
+
 	private String[] getPrefixes(Class<?> c) {
 		String[] prefixes = prefixCache.get(c);
 		if (prefixes == null) {
-			Set<String> ps = new HashSet<>();
+			Set<String> ps = new TreeSet<>();
 			for (Iterator<Class<?>> i = ClassUtils.getParentClasses(c, false, true); i.hasNext();)
 				ps.add(i.next().getSimpleName());
 			prefixes = ps.toArray(new String[ps.size()]);
@@ -150,13 +168,39 @@ public class ContextCache {
 		return (T)ClassUtils.newInstance(Context.class, cc, true, ps);
 	}
 
-	private static class CacheEntry {
-		final PropertyStore ps;
-		final Context context;
+	/*
+	 * The property groups of a property store that apply to a context class.
+	 * Equality compares the groups themselves, so hash collisions never return the wrong context.
+	 */
+	private static final class CacheKey {
+		private final Object[] groups;
+		private final int hashCode;
+
+		CacheKey(PropertyStore ps, String[] prefixes) {
+			groups = new Object[prefixes.length];
+			for (int i = 0; i < prefixes.length; i++)
+				groups[i] = ps.groups.get(prefixes[i]);
+			hashCode = Arrays.hashCode(groups);
+		}
 
-		CacheEntry(PropertyStore ps, Context context) {
-			this.ps = ps;
-			this.context = context;
+		@Override /* Object */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (! (o instanceof CacheKey))
+				return false;
+			CacheKey k = (CacheKey)o;
+			if (hashCode != k.hashCode || groups.length != k.groups.length)
+				return false;
+			for (int i = 0; i < groups.length; i++) {
+				Object g1 = groups[i], g2 = k.groups[i];
+				if (g1 != g2 && (g1 == null || ! g1.equals(g2)))
+					return false;
+			}
+			return true;
 		}
 	}
 }
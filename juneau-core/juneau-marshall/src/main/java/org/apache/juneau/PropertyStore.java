@@ -17,6 +17,7 @@ import static org.apache.juneau.internal.CollectionUtils.*;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.PropertyStoreBuilder.*;
 import org.apache.juneau.internal.*;
@@ -192,14 +193,19 @@ public final class PropertyStore {
 	 */
 	public static PropertyStore DEFAULT = PropertyStore.create().build();
 
+	// Interned property groups so that equal groups in different property stores are the same instance.
+	private static final ConcurrentHashMap<PropertyGroup,PropertyGroup> GROUPS = new ConcurrentHashMap<>();
+
 	final SortedMap<String,PropertyGroup> groups;
 	private final int hashCode;
 
 	// Created by PropertyStoreBuilder.build()
 	PropertyStore(Map<String,PropertyGroupBuilder> propertyMaps) {
 		TreeMap<String,PropertyGroup> m = new TreeMap<>();
-		for (Map.Entry<String,PropertyGroupBuilder> p : propertyMaps.entrySet())
-			m.put(p.getKey(), p.getValue().build());
+		for (Map.Entry<String,PropertyGroupBuilder> p : propertyMaps.entrySet()) {
+			PropertyGroup g = p.getValue().build(), g2 = GROUPS.putIfAbsent(g, g);
+			m.put(p.getKey(), g2 == null ? g : g2);
+		}
 		this.groups = Collections.unmodifiableSortedMap(m);
 		this.hashCode = groups.hashCode();
 	}
@@ -628,7 +634,7 @@ public final class PropertyStore {
 		if (this == o)
 			return true;
 		if (o instanceof PropertyStore)
-			return (this.groups.equals(((PropertyStore)o).groups));
+			return hashCode == o.hashCode() && this.groups.equals(((PropertyStore)o).groups);
 		return false;
 	}
 
@@ -700,8 +706,10 @@ public final class PropertyStore {
 
 		@Override /* Object */
 		public boolean equals(Object o) {
+			if (this == o)
+				return true;
 			if (o instanceof PropertyGroup)
-				return properties.equals(((PropertyGroup)o).properties);
+				return hashCode == o.hashCode() && properties.equals(((PropertyGroup)o).properties);
 			return false;
 		}
 
@@ -30,7 +30,7 @@ public class PropertyStoreBuilder {
 
 	// Contains a cache of all created PropertyStore objects keyed by hashcode.
 	// Used to minimize memory consumption by reusing identical PropertyStores.
-	private static final Map<Integer,PropertyStore> CACHE = new ConcurrentHashMap<>();
+	private static final Map<PropertyStore,PropertyStore> CACHE = new ConcurrentHashMap<>();
 
 	// Maps property suffixes (e.g. "lc") to PropertyType (e.g. LIST_CLASS)
 	static final Map<String,PropertyType> SUFFIX_MAP = new ConcurrentHashMap<>();
@@ -63,12 +63,9 @@ public class PropertyStoreBuilder {
 		if (propertyStore == null)
 			propertyStore = new PropertyStore(groups);
 
-		PropertyStore ps = CACHE.get(propertyStore.hashCode());
-		if (ps == null)
-			CACHE.put(propertyStore.hashCode(), propertyStore);
-		else if (! ps.equals(propertyStore))
-			throw new RuntimeException("Property store mismatch!  This shouldn't happen.");
-		else
+		// Intern the property store so that equal stores are always the same instance.
+		PropertyStore ps = CACHE.putIfAbsent(propertyStore, propertyStore);
+		if (ps != null)
 			propertyStore = ps;
 
 		return propertyStore;
@@ -310,6 +310,23 @@ public abstract class Session {
 		}
 	}
 
+	/**
+	 * Discards any state accumulated during the last use of this session so that it can be reused.
+	 *
+	 * <p>
+	 * Called on pooled sessions between calls (see {@link org.apache.juneau.serializer.Serializer#SERIALIZER_poolSessions}
+	 * and {@link org.apache.juneau.parser.Parser#PARSER_poolSessions}).
+	 * <br>Anything derived from the session arguments (session properties, locale, time zone, media type) is kept, while
+	 * warnings, cached objects, and any per-call scratch state are cleared.
+	 *
+	 * <p>
+	 * Subclasses that keep state between calls must override this method and call <code><jk>super</jk>.resetSession()</code>.
+	 */
+	public void resetSession() {
+		warnings = null;
+		cache = null;
+	}
+
 	/**
 	 * Throws a {@link BeanRuntimeException} if any warnings occurred in this session.
 	 */
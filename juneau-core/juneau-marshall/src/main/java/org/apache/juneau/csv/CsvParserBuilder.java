@@ -96,6 +96,18 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public CsvParserBuilder poolSessions(boolean value) {
+		super.poolSessions(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public CsvParserBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public CsvParserBuilder trimStrings(boolean value) {
 		super.trimStrings(value);
@@ -450,6 +462,18 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public CsvParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public CsvParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public CsvParserBuilder set(String name, Object value) {
 		super.set(name, value);
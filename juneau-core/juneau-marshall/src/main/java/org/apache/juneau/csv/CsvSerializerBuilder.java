@@ -150,6 +150,12 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public CsvSerializerBuilder recursionCheckDepth(int value) {
+		super.recursionCheckDepth(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public CsvSerializerBuilder sortCollections(boolean value) {
 		super.sortCollections(value);
@@ -174,6 +180,18 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public CsvSerializerBuilder poolSessions(boolean value) {
+		super.poolSessions(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public CsvSerializerBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public CsvSerializerBuilder trimEmptyCollections(boolean value) {
 		super.trimEmptyCollections(value);
@@ -564,6 +582,18 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public CsvSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public CsvSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public CsvSerializerBuilder set(String name, Object value) {
 		super.set(name, value);
@@ -50,12 +50,16 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 			Collection<?> l = null;
 			if (cm.isArray()) {
 				l = Arrays.asList((Object[])o);
+			} else if (cm.isStreamable()) {
+				l = toStreamingCollection(o, w);
 			} else {
 				l = (Collection<?>)o;
 			}
 			// TODO - Doesn't support DynaBeans.
-			if (l.size() > 0) {
-				ClassMeta<?> entryType = getClassMetaForObject(l.iterator().next());
+			Iterator<?> it = l.iterator();
+			if (it.hasNext()) {
+				Object first = it.next();
+				ClassMeta<?> entryType = getClassMetaForObject(first);
 				if (entryType.isBean()) {
 					BeanMeta<?> bm = entryType.getBeanMeta();
 					int i = 0;
@@ -67,7 +71,7 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 						}
 					}
 					w.append('\n');
-					for (Object o2 : l) {
+					for (Object o2 = first; ; o2 = it.next()) {
 						i = 0;
 						BeanMap<?> bean = toBeanMap(o2);
 						for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
@@ -78,6 +82,8 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 							}
 						}
 						w.append('\n');
+						if (! it.hasNext())
+							break;
 					}
 				}
 			}
@@ -131,6 +131,18 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder poolSessions(boolean value) {
+		super.poolSessions(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public HtmlParserBuilder trimStrings(boolean value) {
 		super.trimStrings(value);
@@ -473,6 +485,18 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public HtmlParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public HtmlParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public HtmlParserBuilder set(String name, Object value) {
 		super.set(name, value);
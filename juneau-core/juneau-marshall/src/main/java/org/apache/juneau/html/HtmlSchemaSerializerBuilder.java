@@ -290,6 +290,12 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public HtmlSchemaSerializerBuilder recursionCheckDepth(int value) {
+		super.recursionCheckDepth(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public HtmlSchemaSerializerBuilder maxIndent(int value) {
 		super.maxIndent(value);
@@ -326,6 +332,18 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public HtmlSchemaSerializerBuilder poolSessions(boolean value) {
+		super.poolSessions(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public HtmlSchemaSerializerBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public HtmlSchemaSerializerBuilder sq() {
 		super.sq();
@@ -740,6 +758,18 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public HtmlSchemaSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public HtmlSchemaSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public HtmlSchemaSerializerBuilder set(String name, Object value) {
 		super.set(name, value);
@@ -39,6 +39,12 @@ public class HtmlSchemaSerializerSession extends HtmlSerializerSession {
 		this.genSession = ctx.getGenerator().createSession(args);
 	}
 
+	@Override /* Session */
+	public void resetSession() {
+		super.resetSession();
+		genSession.resetSession();
+	}
+
 	@Override /* SerializerSession */
 	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
 		super.doSerialize(out, genSession.getSchema(o));
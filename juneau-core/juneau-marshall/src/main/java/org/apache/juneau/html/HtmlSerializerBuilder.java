@@ -212,6 +212,18 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* XmlSerializerBuilder */
+	public HtmlSerializerBuilder detectNamespacesFromTypes(boolean value) {
+		super.detectNamespacesFromTypes(value);
+		return this;
+	}
+
+	@Override /* XmlSerializerBuilder */
+	public HtmlSerializerBuilder detectNamespacesFromTypes() {
+		super.detectNamespacesFromTypes();
+		return this;
+	}
+
 	@Override /* XmlSerializerBuilder */
 	public HtmlSerializerBuilder enableNamespaces(boolean value) {
 		super.enableNamespaces(value);
@@ -295,6 +307,12 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public HtmlSerializerBuilder recursionCheckDepth(int value) {
+		super.recursionCheckDepth(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public HtmlSerializerBuilder maxIndent(int value) {
 		super.maxIndent(value);
@@ -331,6 +349,18 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public HtmlSerializerBuilder poolSessions(boolean value) {
+		super.poolSessions(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public HtmlSerializerBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public HtmlSerializerBuilder sq() {
 		super.sq();
@@ -745,6 +775,18 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public HtmlSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public HtmlSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public HtmlSerializerBuilder set(String name, Object value) {
 		super.set(name, value);
@@ -320,9 +320,9 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 
 			} else if (sType.isNumber()) {
 				if (eType.isNumber() && ! isRoot)
-					out.append(o);
+					out.appendNumber((Number)o);
 				else
-					out.sTag("number").append(o).eTag("number");
+					out.sTag("number").appendNumber((Number)o).eTag("number");
 				cr = CR_MIXED;
 
 			} else if (sType.isBoolean()) {
@@ -338,6 +338,12 @@ public class HtmlWriter extends XmlWriter {
 		return this;
 	}
 
+	@Override /* SerializerWriter */
+	public HtmlWriter appendNumber(Number n) throws IOException {
+		super.appendNumber(n);
+		return this;
+	}
+
 	@Override /* SerializerWriter */
 	public HtmlWriter append(char c) throws IOException {
 		super.append(c);
@@ -25,5 +25,13 @@ import org.apache.juneau.http.annotation.*;
 @Header("Constants")
 public class Constants {
 	static boolean NOCACHE = Boolean.getBoolean("juneau.http.cache.disable");
-	static int CACHE_MAX_SIZE = Integer.getInteger("juneau.http.cache.maxSize", 1000);
+
+	/**
+	 * The maximum number of entries in each of the caches of parsed header values.
+	 *
+	 * <p>
+	 * Set through the <js>"juneau.http.cache.maxSize"</js> system property.
+	 * <br>The default is <code>1000</code>.
+	 */
+	public static final int CACHE_MAX_SIZE = Integer.getInteger("juneau.http.cache.maxSize", 1000);
 }
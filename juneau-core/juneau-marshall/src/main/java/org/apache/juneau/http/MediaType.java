@@ -16,7 +16,6 @@ import static org.apache.juneau.internal.CollectionUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.internal.*;
@@ -36,28 +35,37 @@ import org.apache.juneau.json.*;
 public class MediaType implements Comparable<MediaType> {
 
 	private static final boolean NOCACHE = Boolean.getBoolean("juneau.nocache");
-	private static final ConcurrentHashMap<String,MediaType> CACHE = new ConcurrentHashMap<>();
+	private static final Cache<String,MediaType> CACHE = new Cache<>(NOCACHE, Constants.CACHE_MAX_SIZE);
+
+	// The predefined media types, which are never evicted so that they can always be compared using '=='.
+	private static final Map<String,MediaType> PREDEFINED = new HashMap<>();
 
 	/** Reusable predefined media type */
 	@SuppressWarnings("javadoc")
 	public static final MediaType
-		CSV = forString("text/csv"),
-		HTML = forString("text/html"),
-		JSON = forString("application/json"),
-		MSGPACK = forString("octal/msgpack"),
-		PLAIN = forString("text/plain"),
-		UON = forString("text/uon"),
-		URLENCODING = forString("application/x-www-form-urlencoded"),
-		XML = forString("text/xml"),
-		XMLSOAP = forString("text/xml+soap"),
-
-		RDF = forString("text/xml+rdf"),
-		RDFABBREV = forString("text/xml+rdf+abbrev"),
-		NTRIPLE = forString("text/n-triple"),
-		TURTLE = forString("text/turtle"),
-		N3 = forString("text/n3")
+		CSV = predefined("text/csv"),
+		HTML = predefined("text/html"),
+		JSON = predefined("application/json"),
+		MSGPACK = predefined("octal/msgpack"),
+		PLAIN = predefined("text/plain"),
+		UON = predefined("text/uon"),
+		URLENCODING = predefined("application/x-www-form-urlencoded"),
+		XML = predefined("text/xml"),
+		XMLSOAP = predefined("text/xml+soap"),
+
+		RDF = predefined("text/xml+rdf"),
+		RDFABBREV = predefined("text/xml+rdf+abbrev"),
+		NTRIPLE = predefined("text/n-triple"),
+		TURTLE = predefined("text/turtle"),
+		N3 = predefined("text/n3")
 	;
 
+	private static MediaType predefined(String s) {
+		MediaType mt = new MediaType(s);
+		PREDEFINED.put(s, mt);
+		return mt;
+	}
+
 	private final String mediaType;
 	private final String type;								     // The media type (e.g. "text" for Accept, "utf-8" for Accept-Charset)
 	private final String subType;                        // The media sub-type (e.g. "json" for Accept, not used for Accept-Charset)
@@ -69,8 +77,9 @@ public class MediaType implements Comparable<MediaType> {
 
 	/**
 	 * Returns the media type for the specified string.
-	 * The same media type strings always return the same objects so that these objects
-	 * can be compared for equality using '=='.
+	 * The strings of the predefined media types (e.g. {@link #JSON}) always return the same objects so that these
+	 * objects can be compared for equality using '=='.
+	 * <br>Other media types are kept in a bounded cache and should be compared using {@link #equals(Object)}.
 	 *
 	 * <h5 class='section'>Notes:</h5>
 	 * <ul class='spaced-list'>
@@ -92,14 +101,13 @@ public class MediaType implements Comparable<MediaType> {
 	public static MediaType forString(String s) {
 		if (isEmpty(s))
 			return null;
-		MediaType mt = CACHE.get(s);
+		MediaType mt = PREDEFINED.get(s);
 		if (mt != null)
 			return mt;
-		mt = new MediaType(s);
-		if (NOCACHE)
+		mt = CACHE.get(s);
+		if (mt != null)
 			return mt;
-		CACHE.putIfAbsent(s, mt);
-		return CACHE.get(s);
+		return CACHE.put(s, new MediaType(s));
 	}
 
 	/**
@@ -351,7 +359,12 @@ public class MediaType implements Comparable<MediaType> {
 
 	@Override /* Object */
 	public final boolean equals(Object o) {
-		return this == o;
+		if (this == o)
+			return true;
+		if (! (o instanceof MediaType))
+			return false;
+		MediaType mt = (MediaType)o;
+		return mediaType.equals(mt.mediaType) && parameters.equals(mt.parameters);
 	}
 
 	@Override
@@ -35,7 +35,7 @@ public final class MediaTypeRange implements Comparable<MediaTypeRange>  {
 
 	private static final MediaTypeRange[] DEFAULT = new MediaTypeRange[]{new MediaTypeRange("*/*")};
 	private static final boolean NOCACHE = Boolean.getBoolean("juneau.nocache");
-	private static final ConcurrentHashMap<String,MediaTypeRange[]> CACHE = new ConcurrentHashMap<>();
+	private static final Cache<String,MediaTypeRange[]> CACHE = new Cache<>(NOCACHE, Constants.CACHE_MAX_SIZE);
 
 	private final MediaType mediaType;
 	private final Float qValue;
@@ -92,10 +92,7 @@ public final class MediaTypeRange implements Comparable<MediaTypeRange>  {
 			}
 			mtr = ranges.toArray(new MediaTypeRange[ranges.size()]);
 		}
-		if (NOCACHE)
-			return mtr;
-		CACHE.putIfAbsent(value, mtr);
-		return CACHE.get(value);
+		return CACHE.put(value, mtr);
 	}
 
 	private MediaTypeRange(String token) {
@@ -12,47 +12,83 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.internal;
 
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
- * Simple in-memory cache of objects.
+ * Simple bounded in-memory cache of objects.
  *
  * <p>
- * Essentially just a wrapper around a ConcurrentHashMap.
+ * Entries are spread across segments, each of which is a {@link ConcurrentHashMap} that's read without locking.
+ * Only inserting and evicting entries lock the segment.
+ * When a segment is full, the entry to evict is chosen with the CLOCK (second chance) algorithm, which approximates
+ * LRU order without updating shared state on every read.
+ * A new entry is only admitted if it has been requested more often than the entry it would replace (TinyLFU
+ * admission).
+ * Access frequencies are tracked in a small count-min sketch per segment that's periodically halved so that old
+ * popularity fades.
+ * The sketch is updated without synchronization; lost updates only make its estimates slightly less accurate.
+ *
+ * <p>
+ * This keeps a long tail of one-off keys (e.g. unusual <l>Accept</l> headers) from flushing frequently-used entries.
  *
  * @param <K> The key type.
  * @param <V> The value type.
  */
 public class Cache<K,V> {
+	private static final int MAX_SEGMENTS = 16, MIN_SEGMENT_SIZE = 32;
+
 	private final boolean nocache;
 	private final int maxSize;
-	private final ConcurrentHashMap<K,V> cache;
+	private final Segment<K,V>[] segments;
+	private final int segmentMask;
+	private final LongAdder hits = new LongAdder(), misses = new LongAdder(), evictions = new LongAdder();
 
 	/**
 	 * Constructor.
 	 *
 	 * @param disabled If <jk>true</jk> then the cache is disabled.
-	 * @param maxSize The maximum size of the cache.  If this threshold is reached, the cache is flushed.
+	 * @param maxSize The maximum size of the cache.
 	 */
+	@SuppressWarnings("unchecked")
 	public Cache(boolean disabled, int maxSize) {
-		this.nocache = disabled;
+		this.nocache = disabled || maxSize <= 0;
 		this.maxSize = maxSize;
-		if (! nocache)
-			cache = new ConcurrentHashMap<>();
-		else
-			cache = null;
+		if (! nocache) {
+			int n = 1;
+			while (n < MAX_SEGMENTS && n * 2 * MIN_SEGMENT_SIZE <= maxSize)
+				n <<= 1;
+			int segmentSize = (maxSize + n - 1) / n;
+			segments = new Segment[n];
+			for (int i = 0; i < n; i++)
+				segments[i] = new Segment<>(segmentSize);
+			segmentMask = n - 1;
+		} else {
+			segments = null;
+			segmentMask = 0;
+		}
 	}
 
 	/**
 	 * Retrieves the value with the specified key from this cache.
 	 *
+	 * <p>
+	 * Each call counts as an access of the key for the purpose of deciding whether it's admitted into a full cache.
+	 *
 	 * @param key The key.
 	 * @return The value, or <jk>null</jk> if the value is not in the cache, or the cache is disabled.
 	 */
 	public V get(K key) {
 		if (nocache)
 			return null;
-		return cache.get(key);
+		int h = hash(key);
+		V v = segmentFor(h).get(key, h);
+		if (v == null)
+			misses.increment();
+		else
+			hits.increment();
+		return v;
 	}
 
 	/**
@@ -62,22 +98,210 @@ public class Cache<K,V> {
 	 * @param value The value.
 	 * @return
 	 * 	Either the value already in the cache if it already exists, or the same value passed in.
-	 * 	Always returns the same value if the cache is disabled.
+	 * 	Always returns the same value if the cache is disabled or the value wasn't admitted into the cache.
 	 */
 	public V put(K key, V value) {
 		if (nocache)
 			return value;
+		int h = hash(key);
+		return segmentFor(h).put(key, h, value, evictions);
+	}
 
-		// Prevent OOM in case of DDOS
-		if (cache.size() > maxSize)
-			cache.clear();
+	/**
+	 * Returns the number of entries in this cache.
+	 *
+	 * @return The number of entries in this cache.
+	 */
+	public int size() {
+		if (nocache)
+			return 0;
+		int size = 0;
+		for (Segment<K,V> s : segments)
+			size += s.size();
+		return size;
+	}
+
+	/**
+	 * Returns the maximum number of entries this cache holds.
+	 *
+	 * @return The maximum number of entries this cache holds.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
 
-		while (true) {
-			V v = cache.get(key);
-			if (v != null)
-				return v;
-			cache.putIfAbsent(key, value);
+	/**
+	 * Returns the number of calls to {@link #get(Object)} that found a value.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(Object)} that didn't find a value.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the number of entries removed to make room for new entries.
+	 *
+	 * @return The number of evictions.
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 */
+	public void clear() {
+		if (! nocache)
+			for (Segment<K,V> s : segments)
+				s.clear();
+	}
+
+	private Segment<K,V> segmentFor(int h) {
+		return segments[(h >>> 16) & segmentMask];
+	}
+
+	private static int hash(Object key) {
+		int h = key.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private static final class Segment<K,V> {
+		private final int capacity;
+		private final ConcurrentHashMap<K,Node<V>> map;
+		private final ArrayDeque<K> clock;  // Keys in CLOCK order, guarded by this segment.
+		private final FrequencySketch sketch;
+
+		Segment(int capacity) {
+			this.capacity = capacity;
+			this.map = new ConcurrentHashMap<>();
+			this.clock = new ArrayDeque<>();
+			this.sketch = new FrequencySketch(capacity);
+		}
+
+		V get(K key, int h) {
+			sketch.increment(h);
+			Node<V> n = map.get(key);
+			if (n == null)
+				return null;
+			if (! n.referenced)
+				n.referenced = true;
+			return n.value;
+		}
+
+		synchronized V put(K key, int h, V value, LongAdder evictions) {
+			Node<V> n = map.get(key);
+			if (n != null)
+				return n.value;
+			if (map.size() >= capacity) {
+				K victim = findVictim();
+				if (sketch.frequency(h) <= sketch.frequency(hash(victim)))
+					return value;
+				clock.poll();
+				map.remove(victim);
+				evictions.increment();
+			}
+			map.put(key, new Node<>(value));
+			clock.add(key);
 			return value;
 		}
+
+		/*
+		 * Moves entries that were read since they were last considered to the back of the clock, and returns the first
+		 * one that wasn't.  The victim is left at the head of the clock.
+		 */
+		private K findVictim() {
+			for (int i = clock.size(); i > 0; i--) {
+				K k = clock.peek();
+				Node<V> n = map.get(k);
+				if (! n.referenced)
+					return k;
+				n.referenced = false;
+				clock.add(clock.poll());
+			}
+			return clock.peek();
+		}
+
+		int size() {
+			return map.size();
+		}
+
+		synchronized void clear() {
+			map.clear();
+			clock.clear();
+		}
+	}
+
+	private static final class Node<V> {
+		final V value;
+		volatile boolean referenced;
+
+		Node(V value) {
+			this.value = value;
+		}
+	}
+
+	/*
+	 * Count-min sketch of 4-bit saturating counters, four rows deep.
+	 * Counters are halved every 10 * capacity increments.
+	 */
+	private static final class FrequencySketch {
+		private final long[] table;
+		private final int mask, sampleSize;
+		private int samples;
+
+		FrequencySketch(int capacity) {
+			int width = 16;
+			while (width < capacity)
+				width <<= 1;
+			this.table = new long[width];
+			this.mask = width - 1;
+			this.sampleSize = 10 * capacity;
+		}
+
+		void increment(int h) {
+			boolean added = false;
+			for (int i = 0; i < 4; i++) {
+				int idx = index(h, i), shift = offset(h, i);
+				if (((table[idx] >>> shift) & 0xFL) < 0xFL) {
+					table[idx] += (1L << shift);
+					added = true;
+				}
+			}
+			if (added && ++samples >= sampleSize)
+				reset();
+		}
+
+		int frequency(int h) {
+			int f = 0xF;
+			for (int i = 0; i < 4; i++)
+				f = Math.min(f, (int)((table[index(h, i)] >>> offset(h, i)) & 0xFL));
+			return f;
+		}
+
+		private int index(int h, int i) {
+			int x = (h + i * 0x61C88647) * 0x9E3779B9;
+			return (x ^ (x >>> 17)) & mask;
+		}
+
+		// Each long holds sixteen counters; every row uses a different group of four.
+		private static int offset(int h, int i) {
+			return ((i << 2) + ((h >>> (i << 3)) & 3)) << 2;
+		}
+
+		private void reset() {
+			for (int i = 0; i < table.length; i++)
+				table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+			samples /= 2;
+		}
 	}
 }
@@ -0,0 +1,148 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+
+/**
+ * A minimal set that compares elements by identity instead of {@link Object#equals(Object)}.
+ *
+ * <p>
+ * Uses open addressing over a single array, so unlike an {@link java.util.IdentityHashMap} used as a set, adding and
+ * removing elements doesn't create any objects once the table is large enough.
+ *
+ * <p>
+ * <b>Warning:</b>  Not thread safe.
+ */
+public final class IdentitySet {
+
+	private Object[] table;
+	private int size;
+
+	/**
+	 * Constructor.
+	 */
+	public IdentitySet() {
+		this.table = new Object[32];
+	}
+
+	/**
+	 * Adds the specified object to this set.
+	 *
+	 * @param o The object to add.  Must not be <jk>null</jk>.
+	 * @return <jk>true</jk> if the object was not already in this set.
+	 */
+	public boolean add(Object o) {
+		Object[] t = table;
+		int mask = t.length - 1, i = index(o, mask);
+		Object x;
+		while ((x = t[i]) != null) {
+			if (x == o)
+				return false;
+			i = (i + 1) & mask;
+		}
+		t[i] = o;
+		if (++size * 2 > t.length)
+			resize();
+		return true;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified object is in this set.
+	 *
+	 * @param o The object to look for.
+	 * @return <jk>true</jk> if the specified object is in this set.
+	 */
+	public boolean contains(Object o) {
+		return indexOf(o) != -1;
+	}
+
+	/**
+	 * Removes the specified object from this set.
+	 *
+	 * @param o The object to remove.
+	 * @return <jk>true</jk> if the object was in this set.
+	 */
+	public boolean remove(Object o) {
+		int i = indexOf(o);
+		if (i == -1)
+			return false;
+		Object[] t = table;
+		int mask = t.length - 1;
+		t[i] = null;
+		size--;
+
+		// Shift back any following entries in the same probe run so that lookups don't stop at the new gap.
+		int j = i;
+		Object x;
+		while ((x = t[j = (j + 1) & mask]) != null) {
+			int k = index(x, mask);
+			if ((j > i) ? (k <= i || k > j) : (k <= i && k > j)) {
+				t[i] = x;
+				t[j] = null;
+				i = j;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Removes all objects from this set.
+	 */
+	public void clear() {
+		if (size > 0) {
+			Arrays.fill(table, null);
+			size = 0;
+		}
+	}
+
+	/**
+	 * Returns the number of objects in this set.
+	 *
+	 * @return The number of objects in this set.
+	 */
+	public int size() {
+		return size;
+	}
+
+	private int indexOf(Object o) {
+		Object[] t = table;
+		int mask = t.length - 1, i = index(o, mask);
+		Object x;
+		while ((x = t[i]) != null) {
+			if (x == o)
+				return i;
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void resize() {
+		Object[] old = table, t = new Object[old.length << 1];
+		int mask = t.length - 1;
+		for (Object o : old) {
+			if (o != null) {
+				int i = index(o, mask);
+				while (t[i] != null)
+					i = (i + 1) & mask;
+				t[i] = o;
+			}
+		}
+		table = t;
+	}
+
+	private static int index(Object o, int mask) {
+		int h = System.identityHashCode(o);
+		return (h ^ (h >>> 16)) & mask;
+	}
+}
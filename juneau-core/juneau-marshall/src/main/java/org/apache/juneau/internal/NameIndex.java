@@ -0,0 +1,167 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.apache.juneau.internal.IOUtils.*;
+
+import java.util.*;
+
+/**
+ * An immutable lookup table of names that can be probed with any {@link CharSequence}.
+ *
+ * <p>
+ * Names are stored in an open-addressed table sized to at least twice the number of entries so that most lookups
+ * resolve on the first slot.
+ * <br>Since lookups compare characters directly, parsers can match a token sitting in their read buffer against a
+ * fixed set of names (e.g. bean property names) without first creating a {@link String} from it.
+ * <br>The names are also stored UTF-8 encoded so that binary parsers can match tokens in their byte buffers.
+ *
+ * @param <V> The value type.
+ */
+public final class NameIndex<V> {
+
+	private final String[] names;
+	private final byte[][] utf8Names;
+	private final Object[] values;
+	private final int[] hashes;
+	private final int mask;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param m The names and values to index.
+	 */
+	public NameIndex(Map<String,V> m) {
+		int size = 2;
+		while (size < m.size() * 2)
+			size <<= 1;
+		this.names = new String[size];
+		this.utf8Names = new byte[size][];
+		this.values = new Object[size];
+		this.hashes = new int[size];
+		this.mask = size - 1;
+		for (Map.Entry<String,V> e : m.entrySet()) {
+			String n = e.getKey();
+			int h = n.hashCode(), i = spread(h) & mask;
+			while (names[i] != null)
+				i = (i + 1) & mask;
+			names[i] = n;
+			utf8Names[i] = n.getBytes(UTF8);
+			values[i] = e.getValue();
+			hashes[i] = h;
+		}
+	}
+
+	/**
+	 * Returns the value associated with the specified name.
+	 *
+	 * @param name The name to look up.
+	 * @return The associated value, or <jk>null</jk> if the name isn't in this index.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(CharSequence name) {
+		int i = indexOf(name);
+		return i == -1 ? null : (V)values[i];
+	}
+
+	/**
+	 * Returns the indexed string that has the same characters as the specified name.
+	 *
+	 * <p>
+	 * Allows parsers to reuse the stored name instead of creating a new string for every matching token.
+	 *
+	 * @param name The name to look up.
+	 * @return The indexed string, or <jk>null</jk> if the name isn't in this index.
+	 */
+	public String getName(CharSequence name) {
+		int i = indexOf(name);
+		return i == -1 ? null : names[i];
+	}
+
+	/**
+	 * Same as {@link #getName(CharSequence)} but matches the UTF-8 encoded name in the specified byte array.
+	 *
+	 * <p>
+	 * Only ASCII names are matched by this method.
+	 * <br>If the bytes contain non-ASCII characters, <jk>null</jk> is returned and the bytes must be decoded and
+	 * looked up as characters instead.
+	 *
+	 * @param b The byte array containing the name.
+	 * @param off The offset of the name in the array.
+	 * @param len The length in bytes of the name.
+	 * @return The indexed string, or <jk>null</jk> if the name isn't in this index or isn't ASCII.
+	 */
+	public String getName(byte[] b, int off, int len) {
+		// For ASCII, the bytes are the characters so the hash is the same as the string hash.
+		int h = 0;
+		for (int i = off, e = off + len; i < e; i++) {
+			byte c = b[i];
+			if (c < 0)
+				return null;
+			h = 31*h + c;
+		}
+		int i = spread(h) & mask;
+		String n;
+		while ((n = names[i]) != null) {
+			if (hashes[i] == h && equals(utf8Names[i], b, off, len))
+				return n;
+			i = (i + 1) & mask;
+		}
+		return null;
+	}
+
+	private int indexOf(CharSequence name) {
+		if (name == null)
+			return -1;
+		int h = hash(name), i = spread(h) & mask;
+		String n;
+		while ((n = names[i]) != null) {
+			if (hashes[i] == h && equals(n, name))
+				return i;
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private static int hash(CharSequence cs) {
+		if (cs instanceof String)
+			return cs.hashCode();
+		int h = 0;
+		for (int i = 0, l = cs.length(); i < l; i++)
+			h = 31*h + cs.charAt(i);
+		return h;
+	}
+
+	private static int spread(int h) {
+		return h ^ (h >>> 16);
+	}
+
+	private static boolean equals(byte[] n, byte[] b, int off, int len) {
+		if (n.length != len)
+			return false;
+		for (int i = 0; i < len; i++)
+			if (n[i] != b[off+i])
+				return false;
+		return true;
+	}
+
+	private static boolean equals(String s, CharSequence cs) {
+		int l = s.length();
+		if (l != cs.length())
+			return false;
+		for (int i = 0; i < l; i++)
+			if (s.charAt(i) != cs.charAt(i))
+				return false;
+		return true;
+	}
+}
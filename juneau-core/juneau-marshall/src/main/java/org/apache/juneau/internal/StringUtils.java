@@ -44,6 +44,17 @@ public final class StringUtils {
 	private static final AsciiSet decChars = AsciiSet.create("0123456789");
 	private static final AsciiSet hexChars = AsciiSet.create("0123456789abcdefABCDEF");
 
+	// Powers of ten that are exactly representable as doubles and floats.
+	private static final double[] exactDoublePowers = new double[23];
+	private static final float[] exactFloatPowers = new float[11];
+	static {
+		exactDoublePowers[0] = 1;
+		for (int i = 1; i < exactDoublePowers.length; i++)
+			exactDoublePowers[i] = exactDoublePowers[i-1] * 10;
+		for (int i = 0; i < exactFloatPowers.length; i++)
+			exactFloatPowers[i] = (float)exactDoublePowers[i];
+	}
+
 	// Maps 6-bit nibbles to BASE64 characters.
 	private static final char[] base64m1 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
 
@@ -86,7 +97,9 @@ public final class StringUtils {
 	 * @throws Exception
 	 */
 	public static Number parseNumber(ParserReader r, Class<? extends Number> type) throws Exception {
-		return parseNumber(parseNumberString(r), type);
+		CharSequence s = readNumber(r);
+		Number n = parseSimpleNumber(s, type);
+		return n != null ? n : parseNumber(s.toString(), type);
 	}
 
 	/**
@@ -97,6 +110,20 @@ public final class StringUtils {
 	 * @throws Exception
 	 */
 	public static String parseNumberString(ParserReader r) throws Exception {
+		return readNumber(r).toString();
+	}
+
+	/**
+	 * Same as {@link #parseNumberString(ParserReader)} but returns a view over the reader buffer instead of a new string.
+	 *
+	 * <p>
+	 * The returned object is only valid until the next read from the reader.
+	 *
+	 * @param r The reader to read form.
+	 * @return The number characters.
+	 * @throws Exception
+	 */
+	public static CharSequence readNumber(ParserReader r) throws Exception {
 		r.mark();
 		int c = 0;
 		while (true) {
@@ -108,7 +135,135 @@ public final class StringUtils {
 				break;
 			}
 		}
-		return r.getMarked();
+		return r.getMarkedView(0, 0);
+	}
+
+	/**
+	 * Parses a plain decimal number directly from the specified characters without creating intermediate objects.
+	 *
+	 * <p>
+	 * Handles numbers such as <js>"123"</js>, <js>"-1.25"</js> and <js>"5e-3"</js> for integer types and for
+	 * floating point values that can be converted exactly.
+	 * <br>Returns <jk>null</jk> for everything else (e.g. hexadecimal or octal notation, a leading <js>'+'</js>, or
+	 * more digits than fit into a <code>long</code>), in which case {@link #parseNumber(String, Class)} should be
+	 * used instead.
+	 * <br>Any value returned is always the same as the value returned by {@link #parseNumber(String, Class)}.
+	 *
+	 * @param s The characters to parse.
+	 * @param type
+	 * 	The number type to created.
+	 * 	If <jk>null</jk> or <code>Number</code>, uses the best guess.
+	 * @return The parsed number, or <jk>null</jk> if the characters could not be parsed by this method.
+	 */
+	public static Number parseSimpleNumber(CharSequence s, Class<? extends Number> type) {
+		int len = s.length(), i = 0;
+		boolean isNegative = (len > 0 && s.charAt(0) == '-');
+		if (isNegative)
+			i++;
+
+		// Integer part.  Leading zeros are treated as octal by Integer.decode(), so they're not handled here.
+		long m = 0;
+		int digits = 0, exp = 0;
+		int start = i;
+		for (; i < len; i++) {
+			char c = s.charAt(i);
+			if (c < '0' || c > '9')
+				break;
+			if (++digits > 18)
+				return null;
+			m = m * 10 + (c - '0');
+		}
+		if (i == start || (i - start > 1 && s.charAt(start) == '0'))
+			return null;
+
+		boolean isInteger = (i == len);
+		if (! isInteger) {
+
+			// Fraction part.
+			char c = s.charAt(i);
+			if (c == '.') {
+				start = ++i;
+				for (; i < len; i++) {
+					c = s.charAt(i);
+					if (c < '0' || c > '9')
+						break;
+					if (++digits > 18)
+						return null;
+					m = m * 10 + (c - '0');
+				}
+				if (i == start)
+					return null;
+				exp = start - i;
+			}
+
+			// Exponent part.
+			if (i < len) {
+				c = s.charAt(i++);
+				if (c != 'e' && c != 'E')
+					return null;
+				boolean isNegativeExp = (i < len && s.charAt(i) == '-');
+				if (i < len && (isNegativeExp || s.charAt(i) == '+'))
+					i++;
+				start = i;
+				int e = 0;
+				for (; i < len; i++) {
+					c = s.charAt(i);
+					if (c < '0' || c > '9' || i - start > 2)
+						return null;
+					e = e * 10 + (c - '0');
+				}
+				if (i == start)
+					return null;
+				exp += (isNegativeExp ? -e : e);
+			}
+		}
+
+		if (type == null)
+			type = Number.class;
+
+		if (isInteger) {
+			long l = isNegative ? -m : m;
+			boolean isInt = (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE);
+			if (type == Number.class) {
+				if (isInt)
+					return Integer.valueOf((int)l);
+				return Long.valueOf(l);
+			}
+			if (type == Integer.class || type == Integer.TYPE)
+				return isInt ? Integer.valueOf((int)l) : null;
+			if (type == Long.class || type == Long.TYPE)
+				return Long.valueOf(l);
+			if (type == Short.class || type == Short.TYPE)
+				return (l >= Short.MIN_VALUE && l <= Short.MAX_VALUE) ? Short.valueOf((short)l) : null;
+			if (type == Byte.class || type == Byte.TYPE)
+				return (l >= Byte.MIN_VALUE && l <= Byte.MAX_VALUE) ? Byte.valueOf((byte)l) : null;
+		}
+
+		boolean isDouble = (type == Double.class || type == Double.TYPE);
+		boolean isFloat = (type == Float.class || type == Float.TYPE);
+		boolean isAutoDetect = (type == Number.class);
+		if (! (isDouble || isFloat || isAutoDetect))
+			return null;
+
+		// Only convert when the mantissa and power of ten are both exact, so that a single correctly-rounded
+		// operation produces the same result as Double.valueOf() and Float.valueOf().
+		Double d = null;
+		Float f = null;
+		if (isDouble || isAutoDetect) {
+			if (m >= (1L<<53) || exp < -22 || exp > 22)
+				return null;
+			double x = (exp < 0 ? m / exactDoublePowers[-exp] : m * exactDoublePowers[exp]);
+			d = isNegative ? -x : x;
+		}
+		if (isFloat || isAutoDetect) {
+			if (m >= (1L<<24) || exp < -10 || exp > 10)
+				return null;
+			float x = (exp < 0 ? m / exactFloatPowers[-exp] : m * exactFloatPowers[exp]);
+			f = isNegative ? -x : x;
+		}
+		if (isDouble || (isAutoDetect && ! d.toString().equals(f.toString())))
+			return d;
+		return f;
 	}
 
 	/**
@@ -140,6 +295,10 @@ public final class StringUtils {
 		if (type == null)
 			type = Number.class;
 
+		Number n = parseSimpleNumber(s, type);
+		if (n != null)
+			return n;
+
 		try {
 			// Determine the data type if it wasn't specified.
 			boolean isAutoDetect = (type == Number.class);
@@ -0,0 +1,227 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+
+/**
+ * A {@link Writer} that encodes characters as UTF-8 directly into a byte buffer and writes them to an
+ * {@link OutputStream}.
+ *
+ * <p>
+ * Produces the same bytes as <code><jk>new</jk> OutputStreamWriter(out, <js>"UTF-8"</js>)</code> (including replacing
+ * unpaired surrogates with <js>'?'</js>) but bypasses the charset encoder.
+ * <br>Runs of ASCII characters are copied straight into the byte buffer.
+ * <br>Byte buffers are pooled per thread and returned to the pool by {@link #release()}.
+ *
+ * <p>
+ * <b>Warning:</b>  Not thread safe.
+ */
+public final class Utf8OutputStreamWriter extends Writer {
+
+	private static final int BUFF_SIZE = 8192;
+	private static final byte[] RELEASED = new byte[0];
+	private static final ThreadLocal<byte[]> POOL = new ThreadLocal<>();
+
+	private final OutputStream out;
+	private final char[] cbuff = new char[256];  // For copying string characters.
+	private byte[] buff;
+	private int count;
+	private char pendingHigh;  // High surrogate waiting for its low surrogate.
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The output stream to write to.
+	 */
+	public Utf8OutputStreamWriter(OutputStream out) {
+		this.out = out;
+		this.buff = acquire();
+	}
+
+	@Override /* Writer */
+	public void write(int c) throws IOException {
+		if (c < 0x80 && pendingHigh == 0 && count < buff.length)
+			buff[count++] = (byte)c;
+		else
+			writeSlow((char)c);
+	}
+
+	@Override /* Writer */
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		int end = off + len;
+		while (off < end) {
+			if (pendingHigh == 0) {
+				if (count == buff.length)
+					flushBuffer();
+
+				// Copy ASCII characters directly.
+				byte[] b = buff;
+				int c = count, stop = Math.min(end, off + b.length - c);
+				while (off < stop) {
+					char ch = cbuf[off];
+					if (ch >= 0x80)
+						break;
+					b[c++] = (byte)ch;
+					off++;
+				}
+				count = c;
+				if (off < stop)
+					writeSlow(cbuf[off++]);
+			} else {
+				writeSlow(cbuf[off++]);
+			}
+		}
+	}
+
+	@Override /* Writer */
+	public void write(String str, int off, int len) throws IOException {
+		while (len > 0) {
+			int n = Math.min(len, cbuff.length);
+			str.getChars(off, off + n, cbuff, 0);
+			write(cbuff, 0, n);
+			off += n;
+			len -= n;
+		}
+	}
+
+	@Override /* Writer */
+	public Writer append(CharSequence csq) throws IOException {
+		if (csq instanceof String) {
+			String s = (String)csq;
+			write(s, 0, s.length());
+			return this;
+		}
+		return super.append(csq);
+	}
+
+	/**
+	 * Writes bytes that are already UTF-8 encoded, such as markup precomputed by a serializer.
+	 *
+	 * <p>
+	 * Any unpaired high surrogate written before is written as <js>'?'</js> first.
+	 *
+	 * @param b The UTF-8 encoded bytes.
+	 * @throws IOException If a problem occurred trying to write to the stream.
+	 */
+	public void writeBytes(byte[] b) throws IOException {
+		if (pendingHigh != 0) {
+			pendingHigh = 0;
+			write('?');
+		}
+		int len = b.length;
+		if (len > buff.length - count) {
+			flushBuffer();
+			if (len > buff.length) {
+				out.write(b);
+				return;
+			}
+		}
+		System.arraycopy(b, 0, buff, count, len);
+		count += len;
+	}
+
+	/*
+	 * Encodes a single character, handling multi-byte sequences and surrogate pairs.
+	 */
+	private void writeSlow(char ch) throws IOException {
+		if (count + 4 > buff.length)
+			flushBuffer();
+		byte[] b = buff;
+		if (pendingHigh != 0) {
+			char high = pendingHigh;
+			pendingHigh = 0;
+			if (Character.isLowSurrogate(ch)) {
+				int cp = Character.toCodePoint(high, ch);
+				b[count++] = (byte)(0xF0 | (cp >> 18));
+				b[count++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+				b[count++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+				b[count++] = (byte)(0x80 | (cp & 0x3F));
+				return;
+			}
+			b[count++] = '?';
+		}
+		if (ch < 0x80) {
+			b[count++] = (byte)ch;
+		} else if (ch < 0x800) {
+			b[count++] = (byte)(0xC0 | (ch >> 6));
+			b[count++] = (byte)(0x80 | (ch & 0x3F));
+		} else if (Character.isHighSurrogate(ch)) {
+			pendingHigh = ch;
+		} else if (Character.isLowSurrogate(ch)) {
+			b[count++] = '?';
+		} else {
+			b[count++] = (byte)(0xE0 | (ch >> 12));
+			b[count++] = (byte)(0x80 | ((ch >> 6) & 0x3F));
+			b[count++] = (byte)(0x80 | (ch & 0x3F));
+		}
+	}
+
+	/*
+	 * Writes the buffered bytes to the stream, acquiring a new buffer if the previous one was released.
+	 */
+	private void flushBuffer() throws IOException {
+		writeBuffer();
+		if (buff == RELEASED)
+			buff = acquire();
+	}
+
+	private void writeBuffer() throws IOException {
+		if (count > 0) {
+			out.write(buff, 0, count);
+			count = 0;
+		}
+	}
+
+	@Override /* Writer */
+	public void flush() throws IOException {
+		writeBuffer();
+		out.flush();
+	}
+
+	/**
+	 * Flushes this writer and returns the byte buffer to the pool.
+	 *
+	 * <p>
+	 * Any unpaired high surrogate is written as <js>'?'</js>.
+	 * <br>Does not close the underlying stream.
+	 * <br>The writer can continue to be used afterwards, in which case a new buffer is acquired.
+	 *
+	 * @throws IOException If a problem occurred trying to write to the stream.
+	 */
+	public void release() throws IOException {
+		if (pendingHigh != 0) {
+			pendingHigh = 0;
+			write('?');
+		}
+		flush();
+		if (buff != RELEASED) {
+			POOL.set(buff);
+			buff = RELEASED;
+		}
+	}
+
+	@Override /* Writer */
+	public void close() throws IOException {
+		release();
+		out.close();
+	}
+
+	private static byte[] acquire() {
+		byte[] b = POOL.get();
+		if (b == null)
+			return new byte[BUFF_SIZE];
+		POOL.set(null);
+		return b;
+	}
+}
@@ -120,6 +120,12 @@ public class JsoSerializerBuilder extends OutputStreamSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public JsoSerializerBuilder recursionCheckDepth(int value) {
+		super.recursionCheckDepth(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public JsoSerializerBuilder sortCollections(boolean value) {
 		super.sortCollections(value);
@@ -144,6 +150,18 @@ public class JsoSerializerBuilder extends OutputStreamSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public JsoSerializerBuilder poolSessions(boolean value) {
+		super.poolSessions(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public JsoSerializerBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public JsoSerializerBuilder trimEmptyCollections(boolean value) {
 		super.trimEmptyCollections(value);
@@ -534,6 +552,18 @@ public class JsoSerializerBuilder extends OutputStreamSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public JsoSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public JsoSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public JsoSerializerBuilder set(String name, Object value) {
 		super.set(name, value);
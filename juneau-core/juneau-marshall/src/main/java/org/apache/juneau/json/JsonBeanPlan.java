@@ -0,0 +1,81 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Precompiled serialization plan for a bean type.
+ *
+ * <p>
+ * Contains the readable properties of a bean in serialization order along with their attribute names already
+ * rendered (quoted and escaped as needed, followed by <js>':'</js>) for the settings of the {@link JsonSerializer}
+ * that created it.
+ * <br>Plans are created once per {@link BeanMeta} and cached on the serializer.
+ *
+ * <h5 class='section'>Notes:</h5>
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		This class is not intended for external use.
+ * </ul>
+ */
+final class JsonBeanPlan {
+
+	final boolean supported;              // False if this bean can't be serialized using a plan (e.g. has dyna properties).
+	final BeanPropertyMeta[] properties;  // The readable bean properties in serialization order.
+	final String[] names;                 // The property names.
+	final char[][] attrs;                 // The rendered attribute names (e.g. "name":).
+	final char[] typeAttr;                // The rendered attribute name of the "_type" property.
+
+	/**
+	 * Constructor.
+	 *
+	 * @param bm The bean meta to create a plan for.
+	 * @param simpleMode The value of {@link JsonSerializer#JSON_simpleMode}.
+	 * @param escapeSolidus The value of {@link JsonSerializer#JSON_escapeSolidus}.
+	 * @param quoteChar The quote character.
+	 * @param trimStrings The value of {@link org.apache.juneau.serializer.Serializer#SERIALIZER_trimStrings}.
+	 */
+	JsonBeanPlan(BeanMeta<?> bm, boolean simpleMode, boolean escapeSolidus, char quoteChar, boolean trimStrings) {
+		List<BeanPropertyMeta> l = new ArrayList<>();
+		boolean supported = true;
+		for (BeanPropertyMeta p : bm.getPropertyMetas()) {
+			if (p.isDyna())
+				supported = false;
+			if (p.canRead())
+				l.add(p);
+		}
+		this.supported = supported;
+		this.properties = l.toArray(new BeanPropertyMeta[l.size()]);
+		this.names = new String[properties.length];
+		this.attrs = new char[properties.length][];
+		for (int i = 0; i < properties.length; i++) {
+			names[i] = properties[i].getName();
+			attrs[i] = render(names[i], simpleMode, escapeSolidus, quoteChar, trimStrings);
+		}
+		this.typeAttr = render(bm.getTypeProperty().getName(), simpleMode, escapeSolidus, quoteChar, trimStrings);
+	}
+
+	private static char[] render(String name, boolean simpleMode, boolean escapeSolidus, char quoteChar, boolean trimStrings) {
+		try {
+			StringWriter sw = new StringWriter();
+			new JsonWriter(sw, false, 0, escapeSolidus, quoteChar, simpleMode, trimStrings, null).attr(name).append(':');
+			return sw.toString().toCharArray();
+		} catch (IOException e) {
+			throw new RuntimeException(e);  // Never happens with StringWriter.
+		}
+	}
+}
@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.json;
 
+import java.lang.reflect.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 
@@ -148,6 +150,62 @@ public class JsonParser extends ReaderParser {
 	 */
 	public static final String JSON_validateEnd = PREFIX + "validateEnd.b";
 
+	/**
+	 * Configuration property:  Decode UTF-8 bytes directly.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"JsonParser.utf8Bytes.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link JsonParserBuilder#utf8Bytes(boolean)}
+	 * 			<li class='jm'>{@link JsonParserBuilder#utf8Bytes()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, input streams and byte arrays are converted to characters by a UTF-8 decoder built into the
+	 * parser reader instead of an {@link java.io.InputStreamReader}.
+	 *
+	 * <p>
+	 * Runs of ASCII characters (which include all JSON syntax characters) are copied with a simple loop, and only
+	 * multi-byte sequences need decoding.
+	 * <br>This avoids the charset decoder and its intermediate buffer, and byte arrays are not copied before being
+	 * decoded.
+	 *
+	 * <p>
+	 * Only the conversion from bytes to characters changes.
+	 * <br>The bytes are still decoded into the character buffer of the {@link ParserReader}, and tokens and property
+	 * names are matched on characters exactly as with other input.
+	 *
+	 * <p>
+	 * Only applies when {@link ReaderParser#RPARSER_inputStreamCharset} is UTF-8 (the default) and
+	 * {@link BeanContext#BEAN_debug} and {@link Parser#PARSER_unbuffered} are disabled.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that decodes UTF-8 bytes directly.</jc>
+	 * 	ReaderParser p = JsonParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.utf8Bytes()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>JSON_utf8Bytes</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 *
+	 * 	<jc>// Parse a request body.</jc>
+	 * 	MyBean myBean = p.parse(req.getInputStream(), MyBean.<jk>class</jk>);
+	 * </p>
+	 */
+	public static final String JSON_utf8Bytes = PREFIX + "utf8Bytes.b";
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// Predefined instances
 	//-------------------------------------------------------------------------------------------------------------------
@@ -193,7 +251,7 @@ public class JsonParser extends ReaderParser {
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
-	private final boolean validateEnd;
+	private final boolean validateEnd, utf8Bytes;
 
 	/**
 	 * Constructor.
@@ -213,6 +271,7 @@ public class JsonParser extends ReaderParser {
 	public JsonParser(PropertyStore ps, String...consumes) {
 		super(ps, consumes);
 		validateEnd = getBooleanProperty(JSON_validateEnd, false);
+		utf8Bytes = getBooleanProperty(JSON_utf8Bytes, false);
 	}
 
 	@Override /* Context */
@@ -241,6 +300,81 @@ public class JsonParser extends ReaderParser {
 		return new JsonParserSession(this, args);
 	}
 
+	/**
+	 * Creates a pull-style reader for reading the specified input one token at a time.
+	 *
+	 * <p>
+	 * Useful for processing JSON documents that are too large to be held in memory.
+	 * <br>The returned reader should be closed when no longer needed.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Process a large top-level array one element at a time.</jc>
+	 * 	<jk>try</jk> (JsonTokenReader r = JsonParser.<jsf>DEFAULT</jsf>.createTokenReader(input)) {
+	 * 		r.next();  <jc>// START_ARRAY</jc>
+	 * 		<jk>while</jk> (r.hasNextValue())
+	 * 			process(r.parse(MyBean.<jk>class</jk>));
+	 * 	}
+	 * </p>
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link Parser#parse(Object, Type, Type...)} for the supported input types.
+	 * @return A new token reader.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	public JsonTokenReader createTokenReader(Object input) throws ParseException {
+		return new JsonParserSession(this, createDefaultSessionArgs()).createTokenReader(input);
+	}
+
+	/**
+	 * Parses the elements of a JSON array one at a time.
+	 *
+	 * <p>
+	 * Unlike parsing into a collection, elements are decoded as the iterator is advanced so that very large arrays
+	 * can be processed with constant memory.
+	 * <br>If the input is not a JSON array, the iterator returns each top-level value in the input
+	 * (e.g. newline-delimited JSON).
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; i = JsonParser.<jsf>DEFAULT</jsf>.parseIterator(input, MyBean.<jk>class</jk>)) {
+	 * 		<jk>while</jk> (i.hasNext())
+	 * 			process(i.next());
+	 * 	}
+	 * </p>
+	 *
+	 * @param <E> The element type.
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link Parser#parse(Object, Type, Type...)} for the supported input types.
+	 * @param elementType
+	 * 	The element type.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType},
+	 * 	{@link GenericArrayType}
+	 * @param args The type arguments of the element type if it's a collection or map.
+	 * @return A new iterator that should be closed if not read to the end.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	public <E> ParserIterator<E> parseIterator(Object input, Type elementType, Type...args) throws ParseException {
+		return new JsonParserSession(this, createDefaultSessionArgs()).parseIterator(input, elementType, args);
+	}
+
+	/**
+	 * Same as {@link #parseIterator(Object, Type, Type...)} except optimized for a non-parameterized class.
+	 *
+	 * @param <E> The element type.
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link Parser#parse(Object, Type, Type...)} for the supported input types.
+	 * @param elementType The element type.
+	 * @return A new iterator that should be closed if not read to the end.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	public <E> ParserIterator<E> parseIterator(Object input, Class<E> elementType) throws ParseException {
+		return new JsonParserSession(this, createDefaultSessionArgs()).parseIterator(input, elementType);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -257,9 +391,23 @@ public class JsonParser extends ReaderParser {
 		return validateEnd;
 	}
 
+	/**
+	 * Configuration property:  Decode UTF-8 bytes directly.
+	 *
+	 * @see #JSON_utf8Bytes
+	 * @return
+	 * 	<jk>true</jk> if input streams and byte arrays are parsed by decoding UTF-8 bytes directly.
+	 */
+	protected final boolean isUtf8Bytes() {
+		return utf8Bytes;
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
-			.append("JsonParser", new ObjectMap());
+			.append("JsonParser", new ObjectMap()
+				.append("validateEnd", validateEnd)
+				.append("utf8Bytes", utf8Bytes)
+			);
 	}
 }
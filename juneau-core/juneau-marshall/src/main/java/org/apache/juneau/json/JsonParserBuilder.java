@@ -89,6 +89,44 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return set(JSON_validateEnd, true);
 	}
 
+	/**
+	 * Configuration property:  Decode UTF-8 bytes directly.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, input streams and byte arrays are converted to characters by a UTF-8 decoder built into the
+	 * parser reader instead of an {@link java.io.InputStreamReader}.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link JsonParser#JSON_utf8Bytes}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public JsonParserBuilder utf8Bytes(boolean value) {
+		return set(JSON_utf8Bytes, value);
+	}
+
+	/**
+	 * Configuration property:  Decode UTF-8 bytes directly.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>utf8Bytes(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link JsonParser#JSON_utf8Bytes}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public JsonParserBuilder utf8Bytes() {
+		return set(JSON_utf8Bytes, true);
+	}
+
 	@Override /* ReaderParserBuilder */
 	public JsonParserBuilder fileCharset(String value) {
 		super.fileCharset(value);
@@ -137,6 +175,18 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsonParserBuilder poolSessions(boolean value) {
+		super.poolSessions(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public JsonParserBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsonParserBuilder trimStrings(boolean value) {
 		super.trimStrings(value);
@@ -491,6 +541,18 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public JsonParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public JsonParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public JsonParserBuilder set(String name, Object value) {
 		super.set(name, value);
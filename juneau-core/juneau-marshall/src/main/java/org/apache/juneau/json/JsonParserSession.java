@@ -84,7 +84,7 @@ public final class JsonParserSession extends ReaderParserSession {
 
 	@Override /* ParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
-		try (ParserReader r = pipe.getParserReader()) {
+		try (ParserReader r = getParserReader(pipe)) {
 			if (r == null)
 				return null;
 			T o = parseAnything(type, r, getOuter(), null);
@@ -95,7 +95,7 @@ public final class JsonParserSession extends ReaderParserSession {
 
 	@Override /* ReaderParserSession */
 	protected <K,V> Map<K,V> doParseIntoMap(ParserPipe pipe, Map<K,V> m, Type keyType, Type valueType) throws Exception {
-		try (ParserReader r = pipe.getParserReader()) {
+		try (ParserReader r = getParserReader(pipe)) {
 			m = parseIntoMap2(r, m, (ClassMeta<K>)getClassMeta(keyType), (ClassMeta<V>)getClassMeta(valueType), null);
 			validateEnd(r);
 			return m;
@@ -104,14 +104,90 @@ public final class JsonParserSession extends ReaderParserSession {
 
 	@Override /* ReaderParserSession */
 	protected <E> Collection<E> doParseIntoCollection(ParserPipe pipe, Collection<E> c, Type elementType) throws Exception {
-		try (ParserReader r = pipe.getParserReader()) {
+		try (ParserReader r = getParserReader(pipe)) {
 			c = parseIntoCollection2(r, c, getClassMeta(elementType), null);
 			validateEnd(r);
 			return c;
 		}
 	}
 
-	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
+	/**
+	 * Creates a pull-style reader for reading the specified input one token at a time.
+	 *
+	 * <p>
+	 * The returned reader should be closed when no longer needed.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link #parse(Object, Type, Type...)} for the supported input types.
+	 * @return A new token reader.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	public JsonTokenReader createTokenReader(Object input) throws ParseException {
+		ParserPipe pipe = createPipe(input);
+		try {
+			return new JsonTokenReader(this, pipe, getParserReader(pipe));
+		} catch (ParseException e) {
+			pipe.close();
+			throw e;
+		} catch (Exception e) {
+			pipe.close();
+			throw new ParseException(this, e);
+		}
+	}
+
+	/**
+	 * Parses the elements of a JSON array one at a time.
+	 *
+	 * <p>
+	 * If the input is a JSON array, the iterator returns the elements of the array.
+	 * <br>Otherwise, the iterator returns each top-level value in the input (e.g. newline-delimited JSON).
+	 *
+	 * @param <E> The element type.
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link #parse(Object, Type, Type...)} for the supported input types.
+	 * @param elementType The element type.
+	 * @param args The type arguments of the element type if it's a collection or map.
+	 * @return A new iterator that should be closed if not read to the end.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	public <E> ParserIterator<E> parseIterator(Object input, Type elementType, Type...args) throws ParseException {
+		final JsonTokenReader r = createTokenReader(input);
+		final ClassMeta<E> type = getClassMeta(elementType, args);
+		return new ParserIterator<E>(this, r) {
+			private Boolean isArray;
+
+			@Override /* ParserIterator */
+			protected boolean hasNextElement() throws Exception {
+				if (isArray == null) {
+					isArray = r.peek() == '[';
+					if (isArray)
+						r.next();
+				}
+				if (r.hasNextValue())
+					return true;
+				if (isArray) {
+					if (r.next() != JsonToken.END_ARRAY)
+						throw new ParseException(JsonParserSession.this, "Expected ',' or ']'.");
+					if (isValidateEnd())
+						validateEnd(r.getReader());
+				}
+				return false;
+			}
+
+			@Override /* ParserIterator */
+			protected E nextElement() throws Exception {
+				return r.parse(type);
+			}
+		};
+	}
+
+	private ParserReader getParserReader(ParserPipe pipe) throws Exception {
+		return isUtf8Bytes() ? pipe.getUtf8ParserReader() : pipe.getParserReader();
+	}
+
+	<T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
 
 		if (eType == null)
 			eType = object();
@@ -230,11 +306,16 @@ public final class JsonParserSession extends ReaderParserSession {
 		return (T)o;
 	}
 
-	private Number parseNumber(ParserReader r, Class<? extends Number> type) throws Exception {
+	Number parseNumber(ParserReader r, Class<? extends Number> type) throws Exception {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
 			return parseNumber(r, parseString(r), type);
-		return parseNumber(r, parseNumberString(r), type);
+
+		// Plain numbers are converted directly from the reader buffer.
+		// Anything that needs the strict-mode checks below is left to the string-based parsing.
+		CharSequence s = readNumber(r);
+		Number n = parseSimpleNumber(s, type);
+		return n != null ? n : parseNumber(r, s.toString(), type);
 	}
 
 	private Number parseNumber(ParserReader r, String s, Class<? extends Number> type) throws Exception {
@@ -379,10 +460,18 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * Parse a JSON attribute from the character array at the specified position, then
 	 * set the position marker to the last character in the field name.
 	 */
-	private String parseFieldName(ParserReader r) throws Exception {
+	String parseFieldName(ParserReader r) throws Exception {
+		return parseFieldName(r, null);
+	}
+
+	/*
+	 * Same as parseFieldName(ParserReader), but if a bean is specified, the name is matched against the bean's
+	 * property names directly in the reader buffer so that known names don't create new strings.
+	 */
+	private String parseFieldName(ParserReader r, BeanMeta<?> bm) throws Exception {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
-			return parseString(r);
+			return parseString(r, bm);
 		if (isStrict())
 			throw new ParseException(this, "Unquoted attribute detected.");
 		if (! VALID_BARE_CHARS.contains(c))
@@ -393,7 +482,10 @@ public final class JsonParserSession extends ReaderParserSession {
 			c = r.read();
 			if (! VALID_BARE_CHARS.contains(c)) {
 				r.unread();
-				String s = r.getMarked().intern();
+				CharSequence cs = r.getMarkedView(0, 0);
+				String s = bm == null ? null : bm.getPropertyName(cs);
+				if (s == null)
+					s = cs.toString().intern();
 				return s.equals("null") ? null : s;
 			}
 		}
@@ -496,7 +588,7 @@ public final class JsonParserSession extends ReaderParserSession {
 					} else {
 						r.unread();
 						mark();
-						currAttr = parseFieldName(r);
+						currAttr = parseFieldName(r, m.getMeta());
 						state = S3;
 					}
 				} else if (state == S3) {
@@ -557,7 +649,15 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * If the string consists of a concatenation of strings (e.g. 'AAA' + "BBB"), this method
 	 * will automatically concatenate the strings and return the result.
 	 */
-	private String parseString(ParserReader r) throws Exception  {
+	String parseString(ParserReader r) throws Exception  {
+		return parseString(r, null);
+	}
+
+	/*
+	 * Same as parseString(ParserReader), but if a bean is specified and the string matches one of the bean's property
+	 * names, the property name is returned instead of a new string.
+	 */
+	private String parseString(ParserReader r, BeanMeta<?> bm) throws Exception  {
 		r.mark();
 		int qc = r.read();		// The quote character being used (" or ')
 		if (qc != '"' && isStrict()) {
@@ -607,16 +707,16 @@ public final class JsonParserSession extends ReaderParserSession {
 					r.delete();
 				} else if (isQuoted) {
 					if (c == qc) {
-						s = r.getMarked(1, -1);
+						s = getMarked(r, 1, -1, bm);
 						break;
 					}
 				} else {
 					if (c == ',' || c == '}' || c == ']' || isWhitespace(c)) {
-						s = r.getMarked(0, -1);
+						s = getMarked(r, 0, -1, bm);
 						r.unread();
 						break;
 					} else if (c == -1) {
-						s = r.getMarked(0, 0);
+						s = getMarked(r, 0, 0, bm);
 						break;
 					}
 				}
@@ -637,11 +737,22 @@ public final class JsonParserSession extends ReaderParserSession {
 		return trim(s); // End of input reached.
 	}
 
+	/*
+	 * Returns the marked characters in the reader, reusing the matching property name on the bean if there is one.
+	 */
+	private static String getMarked(ParserReader r, int offsetStart, int offsetEnd, BeanMeta<?> bm) {
+		if (bm == null)
+			return r.getMarked(offsetStart, offsetEnd);
+		CharSequence cs = r.getMarkedView(offsetStart, offsetEnd);
+		String s = bm.getPropertyName(cs);
+		return s == null ? cs.toString() : s;
+	}
+
 	/*
 	 * Looks for the keywords true, false, or null.
 	 * Throws an exception if any of these keywords are not found at the specified position.
 	 */
-	private void parseKeyword(String keyword, ParserReader r) throws Exception {
+	void parseKeyword(String keyword, ParserReader r) throws Exception {
 		try {
 			String s = r.read(keyword.length());
 			if (s.equals(keyword))
@@ -658,7 +769,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * the comments and whitespace.  Otherwise, the cursor will be set to the last position of
 	 * the comments and whitespace.
 	 */
-	private void skipCommentsAndSpace(ParserReader r) throws Exception {
+	void skipCommentsAndSpace(ParserReader r) throws Exception {
 		int c = 0;
 		while ((c = r.read()) != -1) {
 			if (! isWhitespace(c)) {
@@ -797,4 +908,15 @@ public final class JsonParserSession extends ReaderParserSession {
 	protected final boolean isValidateEnd() {
 		return ctx.isValidateEnd();
 	}
+
+	/**
+	 * Configuration property:  Decode UTF-8 bytes directly.
+	 *
+	 * @see JsonParser#JSON_utf8Bytes
+	 * @return
+	 * 	<jk>true</jk> if input streams and byte arrays are parsed by decoding UTF-8 bytes directly.
+	 */
+	protected final boolean isUtf8Bytes() {
+		return ctx.isUtf8Bytes();
+	}
 }
@@ -12,7 +12,9 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.json;
 
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.serializer.*;
@@ -312,6 +314,8 @@ public class JsonSerializer extends WriterSerializer {
 		addBeanTypes;
 
 	private volatile JsonSchemaSerializer schemaSerializer;
+	private final Map<BeanMeta<?>,JsonBeanPlan> beanPlans = new ConcurrentHashMap<>();
+	private final RenderedValueCache renderedValues;
 
 	/**
 	 * Constructor.
@@ -355,6 +359,12 @@ public class JsonSerializer extends WriterSerializer {
 		simpleMode = getBooleanProperty(JSON_simpleMode, false);
 		escapeSolidus = getBooleanProperty(JSON_escapeSolidus, false);
 		addBeanTypes = getBooleanProperty(JSON_addBeanTypes, getBooleanProperty(SERIALIZER_addBeanTypes, false));
+		renderedValues = new RenderedValueCache() {
+			@Override /* RenderedValueCache */
+			protected void render(Writer w, String value) throws IOException {
+				new JsonWriter(w, false, 0, escapeSolidus, getQuoteChar(), simpleMode, isTrimStrings(), null).stringValue(value);
+			}
+		};
 	}
 
 	@Override /* Context */
@@ -389,6 +399,33 @@ public class JsonSerializer extends WriterSerializer {
 		return schemaSerializer;
 	}
 
+	/**
+	 * Returns the precompiled serialization plan for the specified bean type.
+	 *
+	 * <p>
+	 * Plans are created on first use and cached for the life of this serializer.
+	 *
+	 * @param bm The bean type.
+	 * @return The serialization plan.  Never <jk>null</jk>.
+	 */
+	final JsonBeanPlan getBeanPlan(BeanMeta<?> bm) {
+		JsonBeanPlan p = beanPlans.get(bm);
+		if (p == null) {
+			p = new JsonBeanPlan(bm, simpleMode, escapeSolidus, getQuoteChar(), isTrimStrings());
+			beanPlans.put(bm, p);
+		}
+		return p;
+	}
+
+	/**
+	 * Returns the cache of rendered enum constants and bean dictionary names for this serializer.
+	 *
+	 * @return The cache.  Never <jk>null</jk>.
+	 */
+	final RenderedValueCache getRenderedValues() {
+		return renderedValues;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Entry point methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -30,6 +30,7 @@ import org.apache.juneau.transform.*;
 public class JsonSerializerSession extends WriterSerializerSession {
 
 	private final JsonSerializer ctx;
+	private boolean useBeanPlans = true;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -57,6 +58,9 @@ public class JsonSerializerSession extends WriterSerializerSession {
 
 	@Override /* SerializerSesssion */
 	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
+		// Bean plans and cached enum values are rendered using the settings of this serializer, so they can't be used
+		// on a JsonWriter that was passed in as the output.
+		useBeanPlans = ! (out.getRawOutput() instanceof JsonWriter);
 		serializeAnything(getJsonWriter(out), o, getExpectedRootType(o), "root", null);
 	}
 
@@ -72,6 +76,7 @@ public class JsonSerializerSession extends WriterSerializerSession {
 	 */
 	protected String serializeJson(Object o) throws Exception {
 		StringWriter sw = new StringWriter();
+		useBeanPlans = true;
 		serializeAnything(getJsonWriter(createPipe(sw)), o, getExpectedRootType(o), "root", null);
 		return sw.toString();
 	}
@@ -135,7 +140,9 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		// '\0' characters are considered null.
 		if (o == null || (sType.isChar() && ((Character)o).charValue() == 0)) {
 			out.append("null");
-		} else if (sType.isNumber() || sType.isBoolean()) {
+		} else if (sType.isNumber()) {
+			out.appendNumber((Number)o);
+		} else if (sType.isBoolean()) {
 			out.append(o);
 		} else if (sType.isBean()) {
 			serializeBeanMap(out, toBeanMap(o), typeName);
@@ -150,8 +157,17 @@ public class JsonSerializerSession extends WriterSerializerSession {
 			serializeCollection(out, (Collection) o, eType);
 		} else if (sType.isArray()) {
 			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+		} else if (sType.isStreamable()) {
+			serializeCollection(out, toStreamingCollection(o, out), eType);
 		} else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
+		} else if (sType.isEnum() && useBeanPlans) {
+			String s = sType.toString(o);
+			char[] c = ctx.getRenderedValues().getEnum(sType, (Enum<?>)o, s);
+			if (c != null)
+				out.append(c);
+			else
+				out.stringValue(s);
 		} else {
 			out.stringValue(toString(o));
 		}
@@ -198,6 +214,10 @@ public class JsonSerializerSession extends WriterSerializerSession {
 	}
 
 	private SerializerWriter serializeBeanMap(JsonWriter out, BeanMap<?> m, String typeName) throws Exception {
+		JsonBeanPlan plan = getBeanPlan(m);
+		if (plan != null)
+			return serializeBeanMap(out, m, typeName, plan);
+
 		int i = indent;
 		out.append('{');
 
@@ -229,6 +249,79 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return out;
 	}
 
+	/*
+	 * Same as serializeBeanMap(JsonWriter,BeanMap,String) but walks the precompiled list of properties and writes the
+	 * prerendered attribute names instead of building a list of property values and rendering each name.
+	 */
+	private SerializerWriter serializeBeanMap(JsonWriter out, BeanMap<?> m, String typeName, JsonBeanPlan plan) throws Exception {
+		int i = indent;
+		out.append('{');
+
+		boolean addComma = false;
+		if (typeName != null) {
+			BeanPropertyMeta pMeta = m.getMeta().getTypeProperty();
+			out.cr(i).append(plan.typeAttr).s(i);
+			if (pMeta.getClassMeta().getPojoSwap(this) == null)
+				out.append(ctx.getRenderedValues().getName(toString(typeName)));
+			else
+				serializeAnything(out, typeName, pMeta.getClassMeta(), pMeta.getName(), pMeta);
+			addComma = true;
+		}
+
+		boolean trimNulls = isTrimNullProperties();
+		BeanPropertyMeta[] properties = plan.properties;
+		for (int j = 0; j < properties.length; j++) {
+			BeanPropertyMeta pMeta = properties[j];
+			Object value;
+			boolean thrown = false;
+			try {
+				value = pMeta.get(m, null);
+			} catch (Error e) {
+				// Errors should always be uncaught.
+				throw e;
+			} catch (Throwable t) {
+				onBeanGetterException(pMeta, t);
+				value = null;
+				thrown = true;
+			}
+
+			// Properties whose getters threw are handled by canIgnoreValue() the same as in getValues().
+			if (value == null && trimNulls && ! thrown)
+				continue;
+
+			ClassMeta<?> cMeta = pMeta.getClassMeta();
+			String key = plan.names[j];
+
+			if (canIgnoreValue(cMeta, key, value))
+				continue;
+
+			if (addComma)
+				out.append(',').smi(i);
+
+			out.cr(i).append(plan.attrs[j]).s(i);
+
+			serializeAnything(out, value, cMeta, key, pMeta);
+
+			addComma = true;
+		}
+		out.cre(i-1).append('}');
+		return out;
+	}
+
+	/*
+	 * Returns the precompiled serialization plan for the specified bean map, or null if the bean map can't be
+	 * serialized using a plan (e.g. filtered bean metas or beans with dyna properties).
+	 */
+	private JsonBeanPlan getBeanPlan(BeanMap<?> m) {
+		if (! useBeanPlans || m.getClass() != BeanMap.class)
+			return null;
+		BeanMeta<?> bm = m.getMeta();
+		if (bm != m.getClassMeta().getBeanMeta())
+			return null;
+		JsonBeanPlan p = ctx.getBeanPlan(bm);
+		return p.supported ? p : null;
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private SerializerWriter serializeCollection(JsonWriter out, Collection c, ClassMeta<?> type) throws Exception {
 
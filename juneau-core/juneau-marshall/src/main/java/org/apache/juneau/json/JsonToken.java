@@ -0,0 +1,75 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+/**
+ * Token types returned by {@link JsonTokenReader#next()}.
+ */
+public enum JsonToken {
+
+	/** Start of a JSON object (<js>'{'</js>). */
+	START_OBJECT,
+
+	/** End of a JSON object (<js>'}'</js>). */
+	END_OBJECT,
+
+	/** Start of a JSON array (<js>'['</js>). */
+	START_ARRAY,
+
+	/** End of a JSON array (<js>']'</js>). */
+	END_ARRAY,
+
+	/**
+	 * Attribute name inside a JSON object.
+	 *
+	 * <p>
+	 * The name is available through {@link JsonTokenReader#getFieldName()}.
+	 */
+	FIELD_NAME,
+
+	/**
+	 * String value.
+	 *
+	 * <p>
+	 * The value is available through {@link JsonTokenReader#getString()}.
+	 */
+	STRING,
+
+	/**
+	 * Number value.
+	 *
+	 * <p>
+	 * The value is available through {@link JsonTokenReader#getNumber()}.
+	 */
+	NUMBER,
+
+	/**
+	 * Boolean value (<js>"true"</js> or <js>"false"</js>).
+	 *
+	 * <p>
+	 * The value is available through {@link JsonTokenReader#getBoolean()}.
+	 */
+	BOOLEAN,
+
+	/** The <js>"null"</js> value. */
+	NULL;
+
+	/**
+	 * Returns <jk>true</jk> if this token represents a simple value (string, number, boolean, or null).
+	 *
+	 * @return <jk>true</jk> if this token represents a simple value.
+	 */
+	public boolean isScalar() {
+		return this == STRING || this == NUMBER || this == BOOLEAN || this == NULL;
+	}
+}
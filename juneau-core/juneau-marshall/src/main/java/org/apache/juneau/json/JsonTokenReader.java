@@ -0,0 +1,426 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.json.JsonToken.*;
+
+import java.io.*;
+import java.lang.reflect.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Pull-style reader for processing JSON input one token at a time.
+ *
+ * <p>
+ * Allows very large JSON documents to be processed without materializing the entire document in memory.
+ * <br>Individual values (e.g. the elements of a large array) can be bound to POJOs using the same rules as
+ * {@link JsonParser} through the {@link #parse(Class)} and {@link #parse(Type, Type...)} methods.
+ *
+ * <p>
+ * Input can consist of multiple top-level values separated by whitespace (e.g. newline-delimited JSON).
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Input is {"people":[{"name":"John"},{"name":"Jane"}, ...]}</jc>
+ * 	<jk>try</jk> (JsonTokenReader r = JsonParser.<jsf>DEFAULT</jsf>.createTokenReader(input)) {
+ * 		JsonToken t;
+ * 		<jk>while</jk> ((t = r.next()) != <jk>null</jk>) {
+ * 			<jk>if</jk> (t == JsonToken.<jsf>FIELD_NAME</jsf> &amp;&amp; r.getFieldName().equals(<js>"people"</js>)) {
+ * 				r.next();  <jc>// START_ARRAY</jc>
+ * 				<jk>while</jk> (r.hasNextValue())
+ * 					process(r.parse(Person.<jk>class</jk>));
+ * 			}
+ * 		}
+ * 	}
+ * </p>
+ *
+ * <p>
+ * <b>Warning:</b>  Not thread safe.
+ */
+public final class JsonTokenReader implements Closeable {
+
+	private static final int
+		S_VALUE = 0,        // Expecting a value.
+		S_FIRST_VALUE = 1,  // Found '[', expecting a value or ']'.
+		S_FIELD = 2,        // Found ',' in an object, expecting an attribute name.
+		S_FIRST_FIELD = 3,  // Found '{', expecting an attribute name or '}'.
+		S_AFTER = 4;        // Found a value, expecting ',' or the end of the current object or array.
+
+	private final JsonParserSession session;
+	private final ParserPipe pipe;
+	private final ParserReader r;
+
+	private boolean[] stack = new boolean[16];  // True for objects, false for arrays.
+	private int depth;
+	private int state = S_VALUE;
+	private JsonToken token;
+	private String fieldName;
+	private Object value;
+
+	JsonTokenReader(JsonParserSession session, ParserPipe pipe, ParserReader r) {
+		this.session = session;
+		this.pipe = pipe;
+		this.r = r;
+	}
+
+	/**
+	 * Reads the next token from the input.
+	 *
+	 * @return The next token, or <jk>null</jk> if the end of the input has been reached.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public JsonToken next() throws ParseException {
+		try {
+			value = null;
+			token = nextToken();
+			return token;
+		} catch (Exception e) {
+			throw toParseException(e);
+		}
+	}
+
+	private JsonToken nextToken() throws Exception {
+		if (r == null)
+			return null;
+		while (true) {
+			session.skipCommentsAndSpace(r);
+			int c = r.peek();
+
+			if (state == S_AFTER) {
+				if (depth == 0) {
+					state = S_VALUE;
+					continue;
+				}
+				r.read();
+				if (c == ',') {
+					state = stack[depth-1] ? S_FIELD : S_VALUE;
+					continue;
+				}
+				return end(c);
+			}
+
+			if (state == S_FIRST_FIELD || state == S_FIELD) {
+				if (c == '}' && state == S_FIRST_FIELD) {
+					r.read();
+					return end(c);
+				}
+				if (c == -1)
+					throw new ParseException(session, "Could not find '}' marking end of JSON object.");
+				fieldName = session.parseFieldName(r);
+				session.skipCommentsAndSpace(r);
+				if (r.read() != ':')
+					throw new ParseException(session, "Could not find ':' following attribute name on JSON object.");
+				state = S_VALUE;
+				return FIELD_NAME;
+			}
+
+			if (c == ']' && state == S_FIRST_VALUE) {
+				r.read();
+				return end(c);
+			}
+			if (c == -1) {
+				if (depth > 0)
+					throw new ParseException(session, "Unexpected end of input.");
+				return null;
+			}
+			return readValue(c);
+		}
+	}
+
+	private JsonToken readValue(int c) throws Exception {
+		if (c == '{') {
+			r.read();
+			push(true);
+			state = S_FIRST_FIELD;
+			return START_OBJECT;
+		}
+		if (c == '[') {
+			r.read();
+			push(false);
+			state = S_FIRST_VALUE;
+			return START_ARRAY;
+		}
+		state = S_AFTER;
+		if (c == 'n') {
+			session.parseKeyword("null", r);
+			return NULL;
+		}
+		if (c == 't') {
+			session.parseKeyword("true", r);
+			value = Boolean.TRUE;
+			return BOOLEAN;
+		}
+		if (c == 'f') {
+			session.parseKeyword("false", r);
+			value = Boolean.FALSE;
+			return BOOLEAN;
+		}
+		if (c >= '0' && c <= '9' || c == '-' || c == '.') {
+			value = session.parseNumber(r, null);
+			return NUMBER;
+		}
+		if (c == ',' || c == '}' || c == ']')
+			throw new ParseException(session, "Missing value detected.");
+		value = session.parseString(r);
+		return STRING;
+	}
+
+	private JsonToken end(int c) throws Exception {
+		boolean isObject = depth > 0 && stack[depth-1];
+		if (c == '}' && isObject || c == ']' && depth > 0 && ! isObject) {
+			depth--;
+			state = S_AFTER;
+			return isObject ? END_OBJECT : END_ARRAY;
+		}
+		if (c == -1)
+			throw new ParseException(session, "Unexpected end of input.");
+		throw new ParseException(session, "Unexpected character ''{0}'' found.", (char)c);
+	}
+
+	private void push(boolean isObject) {
+		if (depth == stack.length) {
+			boolean[] s = new boolean[depth << 1];
+			System.arraycopy(stack, 0, s, 0, depth);
+			stack = s;
+		}
+		stack[depth++] = isObject;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if there's another value to read in the current array (or at the top level of the input).
+	 *
+	 * <p>
+	 * Consumes any <js>','</js> separator so that the next value can be read through {@link #next()},
+	 * {@link #parse(Class)}, or {@link #parse(Type, Type...)}.
+	 * <br>Also returns <jk>true</jk> when positioned directly after a {@link JsonToken#FIELD_NAME} token.
+	 *
+	 * @return <jk>true</jk> if there's another value to read.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public boolean hasNextValue() throws ParseException {
+		try {
+			if (r == null)
+				return false;
+			session.skipCommentsAndSpace(r);
+			int c = r.peek();
+			if (state == S_AFTER) {
+				if (depth == 0) {
+					state = S_VALUE;
+				} else if (c == ',' && ! stack[depth-1]) {
+					r.read();
+					state = S_VALUE;
+					session.skipCommentsAndSpace(r);
+					c = r.peek();
+				} else {
+					return false;
+				}
+			}
+			if (state == S_FIRST_VALUE)
+				return c != ']';
+			if (state == S_VALUE)
+				return c != -1 || depth > 0;
+			return false;
+		} catch (Exception e) {
+			throw toParseException(e);
+		}
+	}
+
+	/**
+	 * Parses the next value in the input into the specified type.
+	 *
+	 * <p>
+	 * The entire value (including any nested objects and arrays) is consumed.
+	 *
+	 * @param type The object type to create.
+	 * @return The parsed object.
+	 * @throws ParseException
+	 * 	If the reader is not positioned before a value, or the value is malformed or not valid for the specified type.
+	 */
+	public <T> T parse(Class<T> type) throws ParseException {
+		return parse(session.getClassMeta(type));
+	}
+
+	/**
+	 * Parses the next value in the input into the specified parameterized type.
+	 *
+	 * <p>
+	 * The entire value (including any nested objects and arrays) is consumed.
+	 *
+	 * @param type
+	 * 	The object type to create.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType},
+	 * 	{@link GenericArrayType}
+	 * @param args
+	 * 	The type arguments of the class if it's a collection or map.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType},
+	 * 	{@link GenericArrayType}
+	 * 	<br>Ignored if the main type is not a map or collection.
+	 * @return The parsed object.
+	 * @throws ParseException
+	 * 	If the reader is not positioned before a value, or the value is malformed or not valid for the specified type.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T parse(Type type, Type...args) throws ParseException {
+		return (T)parse(session.getClassMeta(type, args));
+	}
+
+	<T> T parse(ClassMeta<T> type) throws ParseException {
+		if (! hasNextValue())
+			throw new ParseException(session, "Reader is not positioned before a value.");
+		try {
+			T o = session.parseAnything(type, r, null, null);
+			state = S_AFTER;
+			token = null;
+			value = null;
+			return o;
+		} catch (Exception e) {
+			throw toParseException(e);
+		}
+	}
+
+	/**
+	 * Skips over the contents of the current object or array.
+	 *
+	 * <p>
+	 * If the current token is {@link JsonToken#START_OBJECT} or {@link JsonToken#START_ARRAY}, reads tokens until the
+	 * matching end token has been read.
+	 * <br>Otherwise, this is a no-op.
+	 *
+	 * @return This object (for method chaining).
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public JsonTokenReader skipChildren() throws ParseException {
+		if (token == START_OBJECT || token == START_ARRAY) {
+			int d = depth;
+			while (depth >= d)
+				if (next() == null)
+					break;
+		}
+		return this;
+	}
+
+	ParserReader getReader() {
+		return r;
+	}
+
+	/*
+	 * Returns the next non-whitespace character in the input without consuming it.
+	 */
+	int peek() throws Exception {
+		if (r == null)
+			return -1;
+		session.skipCommentsAndSpace(r);
+		return r.peek();
+	}
+
+	/**
+	 * Returns the last token returned by {@link #next()}.
+	 *
+	 * @return The current token, or <jk>null</jk> if no token has been read or the last value was consumed by
+	 * {@link #parse(Class)}.
+	 */
+	public JsonToken getToken() {
+		return token;
+	}
+
+	/**
+	 * Returns the name of the last {@link JsonToken#FIELD_NAME} token read.
+	 *
+	 * @return The attribute name, or <jk>null</jk> if no attribute name has been read.
+	 */
+	public String getFieldName() {
+		return fieldName;
+	}
+
+	/**
+	 * Returns the value of the current scalar token.
+	 *
+	 * @return
+	 * 	The value of the current token as a {@link String}, {@link Number}, or {@link Boolean}, or <jk>null</jk> if
+	 * 	the current token is not a scalar or is {@link JsonToken#NULL}.
+	 */
+	public Object getValue() {
+		return value;
+	}
+
+	/**
+	 * Returns the value of the current {@link JsonToken#STRING} token.
+	 *
+	 * @return The string value.
+	 * @throws ParseException If the current token is not a string.
+	 */
+	public String getString() throws ParseException {
+		return getValue(STRING, String.class);
+	}
+
+	/**
+	 * Returns the value of the current {@link JsonToken#NUMBER} token.
+	 *
+	 * @return The number value.
+	 * @throws ParseException If the current token is not a number.
+	 */
+	public Number getNumber() throws ParseException {
+		return getValue(NUMBER, Number.class);
+	}
+
+	/**
+	 * Returns the value of the current {@link JsonToken#BOOLEAN} token.
+	 *
+	 * @return The boolean value.
+	 * @throws ParseException If the current token is not a boolean.
+	 */
+	public Boolean getBoolean() throws ParseException {
+		return getValue(BOOLEAN, Boolean.class);
+	}
+
+	private <T> T getValue(JsonToken t, Class<T> c) throws ParseException {
+		if (token != t)
+			throw new ParseException(session, "Current token is ''{0}'', not ''{1}''.", token, t);
+		return c.cast(value);
+	}
+
+	/**
+	 * Returns the nesting depth of the current position in the input.
+	 *
+	 * @return The number of objects and arrays that the reader is currently inside of.
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Returns the parser session used by this reader.
+	 *
+	 * @return The parser session used by this reader.
+	 */
+	public JsonParserSession getSession() {
+		return session;
+	}
+
+	private ParseException toParseException(Exception e) {
+		if (e instanceof ParseException)
+			return (ParseException)e;
+		if (e instanceof IOException)
+			return new ParseException(session, e, "I/O exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		return new ParseException(session, e, "Exception occurred.  exception={0}, message={1}.",
+			e.getClass().getSimpleName(), e.getLocalizedMessage());
+	}
+
+	@Override /* Closeable */
+	public void close() {
+		pipe.close();
+	}
+}
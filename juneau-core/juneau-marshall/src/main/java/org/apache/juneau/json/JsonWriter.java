@@ -36,6 +36,11 @@ public final class JsonWriter extends SerializerWriter {
 		encodedChars = AsciiSet.create("\n\t\b\f\r'\"\\"),
 		encodedChars2 = AsciiSet.create("\n\t\b\f\r'\"\\/");
 
+	// Lookup tables of the characters above indexed by character value, used for scanning strings in bulk.
+	private static final boolean[]
+		encodedTable = toTable(encodedChars),
+		encodedTable2 = toTable(encodedChars2);
+
 	private static final KeywordSet reservedWords = new KeywordSet(
 		"arguments","break","case","catch","class","const","continue","debugger","default","delete",
 		"do","else","enum","eval","export","extends","false","finally","for","function","if",
@@ -52,7 +57,8 @@ public final class JsonWriter extends SerializerWriter {
 	private static final AsciiSet validAttrChars = AsciiSet.create().ranges("a-z","A-Z","0-9").chars("_").build();
 	private static final AsciiSet validFirstAttrChars = AsciiSet.create().ranges("a-z","A-Z").chars("_").build();
 
-	private final AsciiSet ec;
+	private final boolean[] ec;
+	private char[] buff;        // Reusable buffer that string values are copied to for scanning.
 
 	/**
 	 * Constructor.
@@ -71,7 +77,7 @@ public final class JsonWriter extends SerializerWriter {
 		super(out, useWhitespace, maxIndent, trimStrings, quoteChar, uriResolver);
 		this.simpleMode = simpleMode;
 		this.escapeSolidus = escapeSolidus;
-		this.ec = escapeSolidus ? encodedChars2 : encodedChars;
+		this.ec = escapeSolidus ? encodedTable2 : encodedTable;
 	}
 
 	/**
@@ -84,43 +90,87 @@ public final class JsonWriter extends SerializerWriter {
 	public JsonWriter stringValue(String s) throws IOException {
 		if (s == null)
 			return this;
-		boolean doConvert = false;
-		for (int i = 0; i < s.length() && ! doConvert; i++) {
-			char c = s.charAt(i);
-			doConvert |= ec.contains(c);
-		}
 		q();
-		if (! doConvert) {
-			out.append(s);
-		} else {
-			for (int i = 0; i < s.length(); i++) {
-				char c = s.charAt(i);
-				if (ec.contains(c)) {
-					if (c == '\n')
-						out.append('\\').append('n');
-					else if (c == '\t')
-						out.append('\\').append('t');
-					else if (c == '\b')
-						out.append('\\').append('b');
-					else if (c == '\f')
-						out.append('\\').append('f');
-					else if (c == quoteChar)
-						out.append('\\').append(quoteChar);
-					else if (c == '\\')
-						out.append('\\').append('\\');
-					else if (c == '/' && escapeSolidus)
-						out.append('\\').append('/');
-					else if (c != '\r')
-						out.append(c);
-				} else {
-					out.append(c);
-				}
-			}
+		int len = s.length();
+		char[] b = buff;
+		if (b == null || (b.length < len && b.length < 1024))
+			b = buff = new char[Math.min(Math.max(len, 64), 1024)];
+		for (int off = 0; off < len; off += b.length) {
+			int n = Math.min(b.length, len - off);
+			s.getChars(off, off + n, b, 0);
+			writeEscaped(b, n);
 		}
 		q();
 		return this;
 	}
 
+	/*
+	 * Writes the first len characters in the specified buffer, escaping them as needed.
+	 * Runs of characters that don't need escaping are written in a single call.
+	 */
+	private void writeEscaped(char[] b, int len) throws IOException {
+		int start = 0;
+		for (int i = indexOfEncoded(b, 0, len, ec); i < len; i = indexOfEncoded(b, start, len, ec)) {
+			if (i > start)
+				out.write(b, start, i - start);
+
+			char c = b[i];
+			if (c == '\n')
+				out.append('\\').append('n');
+			else if (c == '\t')
+				out.append('\\').append('t');
+			else if (c == '\b')
+				out.append('\\').append('b');
+			else if (c == '\f')
+				out.append('\\').append('f');
+			else if (c == quoteChar)
+				out.append('\\').append(quoteChar);
+			else if (c == '\\')
+				out.append('\\').append('\\');
+			else if (c == '/' && escapeSolidus)
+				out.append('\\').append('/');
+			else if (c != '\r')
+				out.append(c);
+			start = i + 1;
+		}
+		if (start < len)
+			out.write(b, start, len - start);
+	}
+
+	/*
+	 * Returns the index of the first character at or after the specified position that's in the specified lookup
+	 * table, or the length if there are none.
+	 *
+	 * Characters are checked 8 at a time.  If all 8 are ASCII, a single branch on the combined table lookups
+	 * rejects the whole block.  Otherwise (or if the block contains a match), the block is checked one
+	 * character at a time.
+	 */
+	private static int indexOfEncoded(char[] b, int i, int len, boolean[] t) {
+		for (int n = len - 8; i <= n; i += 8) {
+			char c0 = b[i], c1 = b[i+1], c2 = b[i+2], c3 = b[i+3], c4 = b[i+4], c5 = b[i+5], c6 = b[i+6], c7 = b[i+7];
+			if ((c0|c1|c2|c3|c4|c5|c6|c7) < 128 && ! (t[c0]|t[c1]|t[c2]|t[c3]|t[c4]|t[c5]|t[c6]|t[c7]))
+				continue;
+			for (int j = i; j < i + 8; j++) {
+				char c = b[j];
+				if (c < 128 && t[c])
+					return j;
+			}
+		}
+		for (; i < len; i++) {
+			char c = b[i];
+			if (c < 128 && t[c])
+				return i;
+		}
+		return len;
+	}
+
+	private static boolean[] toTable(AsciiSet as) {
+		boolean[] t = new boolean[128];
+		for (char c = 0; c < 128; c++)
+			t[c] = as.contains(c);
+		return t;
+	}
+
 	/**
 	 * Serializes the specified object as a JSON attribute name.
 	 *
@@ -282,6 +332,12 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	@Override /* SerializerWriter */
+	public JsonWriter appendNumber(Number n) throws IOException {
+		super.appendNumber(n);
+		return this;
+	}
+
 	@Override /* SerializerWriter */
 	public JsonWriter appendIf(boolean b, String text) throws IOException {
 		super.appendIf(b, text);
@@ -299,4 +355,10 @@ public final class JsonWriter extends SerializerWriter {
 		super.append(c);
 		return this;
 	}
+
+	@Override /* SerializerWriter */
+	public JsonWriter append(char[] characters) throws IOException {
+		out.write(characters);
+		return this;
+	}
 }
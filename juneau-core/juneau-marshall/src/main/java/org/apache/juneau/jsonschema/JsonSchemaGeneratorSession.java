@@ -59,6 +59,13 @@ public class JsonSchemaGeneratorSession extends BeanTraverseSession {
 			defs = null;
 	}
 
+	@Override /* Session */
+	public void resetSession() {
+		super.resetSession();
+		if (defs != null)
+			defs.clear();
+	}
+
 	/**
 	 * Returns the JSON-schema for the specified object.
 	 *
@@ -16,7 +16,11 @@ import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.msgpack.DataType.*;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
 
+import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 
 /**
@@ -36,6 +40,11 @@ public final class MsgPackInputStream extends ParserInputStream {
 	private int extType;
 	int pos = 0;
 
+	// When reading from a byte array in place, the array and the current/start/end positions in it.
+	private final byte[] buff;
+	private int bpos;
+	private final int bstart, blimit;
+
 	// Data type quick-lookup table.
 	private static final DataType[] TYPES = new DataType[] {
 		/*0x0?*/ INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,
@@ -64,6 +73,52 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 */
 	protected MsgPackInputStream(ParserPipe pipe) throws Exception {
 		super(pipe);
+		this.buff = null;
+		this.bstart = this.blimit = 0;
+	}
+
+	/**
+	 * Constructor for reading the remaining bytes of an array-backed buffer in place.
+	 *
+	 * <p>
+	 * Strings are decoded directly from the array, and binary fields can be returned as slices of it.
+	 *
+	 * @param pipe The parser input.
+	 * @param bb The input buffer.  Must be backed by an accessible array.
+	 */
+	protected MsgPackInputStream(ParserPipe pipe, ByteBuffer bb) {
+		super(pipe, null);
+		this.buff = bb.array();
+		this.bstart = this.bpos = bb.arrayOffset() + bb.position();
+		this.blimit = bb.arrayOffset() + bb.limit();
+	}
+
+	@Override /* InputStream */
+	public int read() throws IOException {
+		if (buff == null)
+			return super.read();
+		return bpos < blimit ? buff[bpos++] & 0xFF : -1;
+	}
+
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (buff == null)
+			return super.read(b, off, len);
+		if (len == 0)
+			return 0;
+		if (bpos >= blimit)
+			return -1;
+		len = Math.min(len, blimit - bpos);
+		System.arraycopy(buff, bpos, b, off, len);
+		bpos += len;
+		return len;
+	}
+
+	@Override /* Positionable */
+	public Position getPosition() {
+		if (buff == null)
+			return super.getPosition();
+		return new Position(bpos - bstart);
 	}
 
 	/**
@@ -394,18 +449,89 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 * Read a string from the stream.
 	 */
 	String readString() throws IOException {
-		return new String(readBinary(), UTF8);
+		if (buff == null)
+			return new String(readBinary(), UTF8);
+		int len = checkLength();
+		int p = bpos, e = p + len;
+		bpos = e;
+		for (int i = p; i < e; i++)
+			if (buff[i] < 0)
+				return new String(buff, p, len, UTF8);
+		// ASCII bytes are the characters, so use the simplest decoder.
+		return new String(buff, p, len, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Reads the next string if it's the name of a property on the specified bean.
+	 *
+	 * <p>
+	 * Only applies when reading a byte array in place.
+	 * <br>The name is matched against the UTF-8 bytes of the property names without decoding it, and the stored
+	 * property name is returned so that no string is created.
+	 * <br>If the next value isn't a string or doesn't match a property, nothing is consumed.
+	 *
+	 * @param bm The bean metadata.
+	 * @return The property name, or <jk>null</jk> if the next value must be read using {@link #readDataType()}.
+	 */
+	String readPropertyName(BeanMeta<?> bm) {
+		if (buff == null)
+			return null;
+		int p = bpos, len;
+		if (p >= blimit)
+			return null;
+		int i = buff[p++] & 0xFF;
+		if (i >= FIXSTR_L && i <= FIXSTR_U)
+			len = i & 0x1F;
+		else if (i == STR8 && p < blimit)
+			len = buff[p++] & 0xFF;
+		else
+			return null;
+		if (len > blimit - p)
+			return null;
+		String n = bm.getPropertyName(buff, p, len);
+		if (n != null)
+			bpos = p + len;
+		return n;
 	}
 
 	/**
 	 * Read a binary field from the stream.
 	 */
 	byte[] readBinary() throws IOException {
+		if (buff != null) {
+			int len = checkLength();
+			bpos += len;
+			return Arrays.copyOfRange(buff, bpos - len, bpos);
+		}
 		byte[] b = new byte[(int)length];
 		read(b);
 		return b;
 	}
 
+	/**
+	 * Read a binary field from the stream as a byte buffer.
+	 *
+	 * <p>
+	 * When reading a byte array in place, returns a read-only slice of the input array instead of a copy.
+	 */
+	ByteBuffer readBinarySlice() throws IOException {
+		if (buff == null)
+			return ByteBuffer.wrap(readBinary());
+		int len = checkLength();
+		ByteBuffer bb = ByteBuffer.wrap(buff, bpos, len).slice().asReadOnlyBuffer();
+		bpos += len;
+		return bb;
+	}
+
+	/**
+	 * Verifies that the current string or binary field fits in the remaining input array.
+	 */
+	private int checkLength() throws IOException {
+		if (length > blimit - bpos)
+			throw new IOException("Unexpected end of file found at position " + (blimit - bstart));
+		return (int)length;
+	}
+
 	/**
 	 * Read an integer from the stream.
 	 */
@@ -21,6 +21,11 @@ import java.util.concurrent.atomic.*;
 /**
  * Specialized output stream for serializing MessagePack streams.
  *
+ * <p>
+ * Values are encoded into an internal byte buffer that is written to the wrapped stream when it fills up or when
+ * {@link #flush()} is called.
+ * <br>Byte buffers are pooled per thread and returned to the pool by {@link #release()}.
+ *
  * <h5 class='section'>Notes:</h5>
  * <ul class='spaced-list'>
  * 	<li>
@@ -29,7 +34,13 @@ import java.util.concurrent.atomic.*;
  */
 public final class MsgPackOutputStream extends OutputStream {
 
+	private static final int BUFF_SIZE = 8192;
+	private static final byte[] RELEASED = new byte[0];
+	private static final ThreadLocal<byte[]> POOL = new ThreadLocal<>();
+
 	private final OutputStream os;
+	private byte[] buff;
+	private int count;
 
 	/**
 	 * Constructor.
@@ -38,18 +49,34 @@ public final class MsgPackOutputStream extends OutputStream {
 	 */
 	protected MsgPackOutputStream(OutputStream os) {
 		this.os = os;
+		this.buff = acquire();
 	}
 
 	@Override /* OutputStream */
 	public void write(int b) throws IOException {
-		os.write(b);
+		if (count == buff.length)
+			flushBuffer();
+		buff[count++] = (byte)b;
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (len > buff.length - count) {
+			flushBuffer();
+			if (len >= buff.length) {
+				os.write(b, off, len);
+				return;
+			}
+		}
+		System.arraycopy(b, off, buff, count, len);
+		count += len;
 	}
 
 	/**
 	 * Same as {@link #write(int)}.
 	 */
 	final MsgPackOutputStream append(byte b) throws IOException {
-		os.write(b);
+		write(b);
 		return this;
 	}
 
@@ -57,7 +84,7 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Same as {@link #write(byte[])}.
 	 */
 	final MsgPackOutputStream append(byte[] b) throws IOException {
-		os.write(b);
+		write(b, 0, b.length);
 		return this;
 	}
 
@@ -65,7 +92,9 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends one byte to the stream.
 	 */
 	final MsgPackOutputStream append1(int i) throws IOException {
-		os.write(i);
+		if (count == buff.length)
+			flushBuffer();
+		buff[count++] = (byte)i;
 		return this;
 	}
 
@@ -73,21 +102,50 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends two bytes to the stream.
 	 */
 	final MsgPackOutputStream append2(int i) throws IOException {
-		return append1(i>>8).append1(i);
+		if (count + 2 > buff.length)
+			flushBuffer();
+		byte[] b = buff;
+		int c = count;
+		b[c] = (byte)(i>>8);
+		b[c+1] = (byte)i;
+		count = c + 2;
+		return this;
 	}
 
 	/**
 	 * Appends four bytes to the stream.
 	 */
 	final MsgPackOutputStream append4(int i) throws IOException {
-		return append1(i>>24).append1(i>>16).append1(i>>8).append1(i);
+		if (count + 4 > buff.length)
+			flushBuffer();
+		byte[] b = buff;
+		int c = count;
+		b[c] = (byte)(i>>24);
+		b[c+1] = (byte)(i>>16);
+		b[c+2] = (byte)(i>>8);
+		b[c+3] = (byte)i;
+		count = c + 4;
+		return this;
 	}
 
 	/**
 	 * Appends eight bytes to the stream.
 	 */
 	final MsgPackOutputStream append8(long l) throws IOException {
-		return append1((int)(l>>56)).append1((int)(l>>48)).append1((int)(l>>40)).append1((int)(l>>32)).append1((int)(l>>24)).append1((int)(l>>16)).append1((int)(l>>8)).append1((int)(l));
+		if (count + 8 > buff.length)
+			flushBuffer();
+		byte[] b = buff;
+		int c = count;
+		b[c] = (byte)(l>>56);
+		b[c+1] = (byte)(l>>48);
+		b[c+2] = (byte)(l>>40);
+		b[c+3] = (byte)(l>>32);
+		b[c+4] = (byte)(l>>24);
+		b[c+5] = (byte)(l>>16);
+		b[c+6] = (byte)(l>>8);
+		b[c+7] = (byte)l;
+		count = c + 8;
+		return this;
 	}
 
 	/**
@@ -215,14 +273,77 @@ public final class MsgPackOutputStream extends OutputStream {
 		// * AAAAAAAA_AAAAAAAA_AAAAAAAA_AAAAAAAA is a 32-bit big-endian unsigned integer which represents N
 		// * N is the length of data
 
-		byte[] b = cs.toString().getBytes("UTF-8");
-		if (b.length < 32)
-			return append1(0xA0 + b.length).append(b);
-		if (b.length < (1<<8))
-			return append1(STR8).append1(b.length).append(b);
-		if (b.length < (1<<16))
-			return append1(STR16).append2(b.length).append(b);
-		return append1(STR32).append4(b.length).append(b);
+		// The string is encoded directly into the buffer, so the UTF-8 length is computed first for the header.
+		String s = cs.toString();
+		int len = s.length();
+		int n = utf8Length(s, len);
+		if (n < 32)
+			append1(0xA0 + n);
+		else if (n < (1<<8))
+			append1(STR8).append1(n);
+		else if (n < (1<<16))
+			append1(STR16).append2(n);
+		else
+			append1(STR32).append4(n);
+		writeUtf8(s, len);
+		return this;
+	}
+
+	/*
+	 * Returns the number of bytes in the UTF-8 encoding of the specified string.
+	 * Unpaired surrogates are encoded as '?', the same as String.getBytes("UTF-8").
+	 */
+	private static int utf8Length(String s, int len) {
+		int n = len;
+		for (int i = 0; i < len; i++) {
+			char ch = s.charAt(i);
+			if (ch >= 0x80) {
+				if (ch < 0x800)
+					n++;
+				else if (! Character.isSurrogate(ch))
+					n += 2;
+				else if (Character.isHighSurrogate(ch) && i+1 < len && Character.isLowSurrogate(s.charAt(i+1))) {
+					n += 2;
+					i++;
+				}
+			}
+		}
+		return n;
+	}
+
+	private void writeUtf8(String s, int len) throws IOException {
+		int i = 0;
+		while (i < len) {
+			if (count + 4 > buff.length)
+				flushBuffer();
+
+			// Each character takes at most 3 bytes, and a surrogate pair takes 4 bytes for 2 characters, so
+			// the remaining space always fits this many characters.
+			byte[] b = buff;
+			int c = count, stop = Math.min(len, i + (b.length - c - 1) / 3);
+			for (; i < stop; i++) {
+				char ch = s.charAt(i);
+				if (ch < 0x80) {
+					b[c++] = (byte)ch;
+				} else if (ch < 0x800) {
+					b[c++] = (byte)(0xC0 | (ch >> 6));
+					b[c++] = (byte)(0x80 | (ch & 0x3F));
+				} else if (! Character.isSurrogate(ch)) {
+					b[c++] = (byte)(0xE0 | (ch >> 12));
+					b[c++] = (byte)(0x80 | ((ch >> 6) & 0x3F));
+					b[c++] = (byte)(0x80 | (ch & 0x3F));
+				} else if (Character.isHighSurrogate(ch) && i+1 < len && Character.isLowSurrogate(s.charAt(i+1))) {
+					int cp = Character.toCodePoint(ch, s.charAt(++i));
+					b[c++] = (byte)(0xF0 | (cp >> 18));
+					b[c++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+					b[c++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+					b[c++] = (byte)(0x80 | (cp & 0x3F));
+				} else {
+					b[c++] = '?';
+				}
+			}
+			count = c;
+		}
 	}
 
 	/**
@@ -322,4 +443,57 @@ public final class MsgPackOutputStream extends OutputStream {
 			return append1(MAP16).append2(size);
 		return append1(MAP32).append4(size);
 	}
+
+	/*
+	 * Writes the buffered bytes to the stream, acquiring a new buffer if the previous one was released.
+	 */
+	private void flushBuffer() throws IOException {
+		writeBuffer();
+		if (buff == RELEASED)
+			buff = acquire();
+	}
+
+	private void writeBuffer() throws IOException {
+		if (count > 0) {
+			os.write(buff, 0, count);
+			count = 0;
+		}
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		writeBuffer();
+		os.flush();
+	}
+
+	/**
+	 * Flushes this stream and returns the byte buffer to the pool.
+	 *
+	 * <p>
+	 * Does not close the underlying stream.
+	 * <br>The stream can continue to be used afterwards, in which case a new buffer is acquired.
+	 *
+	 * @throws IOException If a problem occurred trying to write to the stream.
+	 */
+	public void release() throws IOException {
+		flush();
+		if (buff != RELEASED) {
+			POOL.set(buff);
+			buff = RELEASED;
+		}
+	}
+
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		release();
+		os.close();
+	}
+
+	private static byte[] acquire() {
+		byte[] b = POOL.get();
+		if (b == null)
+			return new byte[BUFF_SIZE];
+		POOL.set(null);
+		return b;
+	}
 }
\ No newline at end of file
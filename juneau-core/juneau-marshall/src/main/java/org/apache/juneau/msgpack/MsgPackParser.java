@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.msgpack;
 
+import java.lang.reflect.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 
@@ -24,6 +26,68 @@ import org.apache.juneau.parser.*;
  */
 public class MsgPackParser extends InputStreamParser {
 
+	//-------------------------------------------------------------------------------------------------------------------
+	// Configurable properties
+	//-------------------------------------------------------------------------------------------------------------------
+
+	private static final String PREFIX = "MsgPackParser.";
+
+	/**
+	 * Configuration property:  Read byte input in place.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"MsgPackParser.zeroCopy.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link MsgPackParserBuilder#zeroCopy(boolean)}
+	 * 			<li class='jm'>{@link MsgPackParserBuilder#zeroCopy()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, <code><jk>byte</jk>[]</code> and {@link java.nio.ByteBuffer} input is read directly from the
+	 * backing array instead of through an {@link java.io.InputStream}.
+	 *
+	 * <p>
+	 * Strings are decoded straight from the input, and bean property names are matched against their pre-encoded
+	 * bytes so that no string is created for them at all.
+	 * <br><code>bin</code> values parsed into {@link Object} properties are returned as read-only
+	 * {@link java.nio.ByteBuffer} slices of the input instead of copied into new arrays.
+	 * <br>The caller must therefore not modify the input while the parsed values are still in use.
+	 *
+	 * <p>
+	 * <code>bin</code> values parsed into {@link java.nio.ByteBuffer} properties are always returned as slices when
+	 * possible, regardless of this setting.
+	 *
+	 * <p>
+	 * Only applies when {@link BeanContext#BEAN_debug} is disabled.
+	 * <br>Other input types are read as streams.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that reads byte arrays in place.</jc>
+	 * 	InputStreamParser p = MsgPackParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.zeroCopy()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	InputStreamParser p = MsgPackParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>MSGPACK_zeroCopy</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 *
+	 * 	<jc>// Parse a message.</jc>
+	 * 	MyBean myBean = p.parse(bytes, MyBean.<jk>class</jk>);
+	 * </p>
+	 */
+	public static final String MSGPACK_zeroCopy = PREFIX + "zeroCopy.b";
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// Predefined instances
 	//-------------------------------------------------------------------------------------------------------------------
@@ -75,6 +139,8 @@ public class MsgPackParser extends InputStreamParser {
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
+	private final boolean zeroCopy;
+
 	/**
 	 * Constructor.
 	 *
@@ -82,6 +148,7 @@ public class MsgPackParser extends InputStreamParser {
 	 */
 	public MsgPackParser(PropertyStore ps) {
 		super(ps, "octal/msgpack");
+		zeroCopy = getBooleanProperty(MSGPACK_zeroCopy, false);
 	}
 
 	@Override /* Context */
@@ -110,9 +177,72 @@ public class MsgPackParser extends InputStreamParser {
 		return new MsgPackParserSession(this, args);
 	}
 
+	/**
+	 * Parses the elements of a MessagePack array one at a time.
+	 *
+	 * <p>
+	 * Unlike parsing into a collection, elements are decoded as the iterator is advanced so that very large arrays
+	 * can be processed with constant memory.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; i = MsgPackParser.<jsf>DEFAULT</jsf>.parseIterator(input, MyBean.<jk>class</jk>)) {
+	 * 		<jk>while</jk> (i.hasNext())
+	 * 			process(i.next());
+	 * 	}
+	 * </p>
+	 *
+	 * @param <E> The element type.
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link Parser#parse(Object, Type, Type...)} for the supported input types.
+	 * @param elementType
+	 * 	The element type.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType},
+	 * 	{@link GenericArrayType}
+	 * @param args The type arguments of the element type if it's a collection or map.
+	 * @return A new iterator that should be closed if not read to the end.
+	 * @throws ParseException If the input could not be opened or is not an array.
+	 */
+	public <E> ParserIterator<E> parseIterator(Object input, Type elementType, Type...args) throws ParseException {
+		return createSession(createDefaultSessionArgs()).parseIterator(input, elementType, args);
+	}
+
+	/**
+	 * Same as {@link #parseIterator(Object, Type, Type...)} except optimized for a non-parameterized class.
+	 *
+	 * @param <E> The element type.
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link Parser#parse(Object, Type, Type...)} for the supported input types.
+	 * @param elementType The element type.
+	 * @return A new iterator that should be closed if not read to the end.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	public <E> ParserIterator<E> parseIterator(Object input, Class<E> elementType) throws ParseException {
+		return createSession(createDefaultSessionArgs()).parseIterator(input, elementType);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Properties
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Configuration property:  Read byte input in place.
+	 *
+	 * @see #MSGPACK_zeroCopy
+	 * @return
+	 * 	<jk>true</jk> if byte array and byte buffer input is read directly from the backing array.
+	 */
+	protected final boolean isZeroCopy() {
+		return zeroCopy;
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
-			.append("MsgPackParser", new ObjectMap());
+			.append("MsgPackParser", new ObjectMap()
+				.append("zeroCopy", zeroCopy)
+			);
 	}
 }
@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.msgpack;
 
+import static org.apache.juneau.msgpack.MsgPackParser.*;
+
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -49,6 +51,44 @@ public class MsgPackParserBuilder extends InputStreamParserBuilder {
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * Configuration property:  Read byte input in place.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, <code><jk>byte</jk>[]</code> and {@link java.nio.ByteBuffer} input is read directly from the
+	 * backing array instead of through an {@link java.io.InputStream}.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link MsgPackParser#MSGPACK_zeroCopy}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public MsgPackParserBuilder zeroCopy(boolean value) {
+		return set(MSGPACK_zeroCopy, value);
+	}
+
+	/**
+	 * Configuration property:  Read byte input in place.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>zeroCopy(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link MsgPackParser#MSGPACK_zeroCopy}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public MsgPackParserBuilder zeroCopy() {
+		return set(MSGPACK_zeroCopy, true);
+	}
+
 	@Override /* InputStreamParserBuilder */
 	public MsgPackParserBuilder binaryFormat(BinaryFormat value) {
 		super.binaryFormat(value);
@@ -91,6 +131,18 @@ public class MsgPackParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public MsgPackParserBuilder poolSessions(boolean value) {
+		super.poolSessions(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public MsgPackParserBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public MsgPackParserBuilder trimStrings(boolean value) {
 		super.trimStrings(value);
@@ -445,6 +497,18 @@ public class MsgPackParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public MsgPackParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public MsgPackParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public MsgPackParserBuilder set(String name, Object value) {
 		super.set(name, value);
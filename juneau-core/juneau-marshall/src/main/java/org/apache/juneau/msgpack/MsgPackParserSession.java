@@ -14,6 +14,8 @@ package org.apache.juneau.msgpack;
 
 import static org.apache.juneau.msgpack.DataType.*;
 
+import java.lang.reflect.*;
+import java.nio.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -30,6 +32,8 @@ import org.apache.juneau.transform.*;
 @SuppressWarnings({ "rawtypes", "unchecked" })
 public final class MsgPackParserSession extends InputStreamParserSession {
 
+	private final MsgPackParser ctx;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -41,15 +45,65 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 	 */
 	protected MsgPackParserSession(MsgPackParser ctx, ParserSessionArgs args) {
 		super(ctx, args);
+		this.ctx = ctx;
 	}
 
 	@Override /* ParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
-		try (MsgPackInputStream is = new MsgPackInputStream(pipe)) {
+		try (MsgPackInputStream is = getInputStream(pipe)) {
 			return parseAnything(type, is, getOuter(), null);
 		}
 	}
 
+	/**
+	 * Parses the elements of a MessagePack array one at a time.
+	 *
+	 * @param <E> The element type.
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link #parse(Object, Type, Type...)} for the supported input types.
+	 * @param elementType The element type.
+	 * @param args The type arguments of the element type if it's a collection or map.
+	 * @return A new iterator that should be closed if not read to the end.
+	 * @throws ParseException If the input could not be opened or is not an array.
+	 */
+	public <E> ParserIterator<E> parseIterator(Object input, Type elementType, Type...args) throws ParseException {
+		final ParserPipe pipe = createPipe(input);
+		final ClassMeta<E> type = getClassMeta(elementType, args);
+		try {
+			final MsgPackInputStream is = getInputStream(pipe);
+			DataType dt = is.readDataType();
+			if (dt != ARRAY)
+				throw new ParseException(this, "Expected array but found {0}.", dt);
+			final long length = is.readLength();
+			return new ParserIterator<E>(this, pipe) {
+				private long i;
+
+				@Override /* ParserIterator */
+				protected boolean hasNextElement() throws Exception {
+					return i < length;
+				}
+
+				@Override /* ParserIterator */
+				protected E nextElement() throws Exception {
+					i++;
+					return parseAnything(type, is, null, null);
+				}
+			};
+		} catch (ParseException e) {
+			pipe.close();
+			throw e;
+		} catch (Exception e) {
+			pipe.close();
+			throw new ParseException(this, e);
+		}
+	}
+
+	private MsgPackInputStream getInputStream(ParserPipe pipe) throws Exception {
+		ByteBuffer bb = isZeroCopy() ? pipe.getInputBuffer() : null;
+		return bb == null ? new MsgPackInputStream(pipe) : new MsgPackInputStream(pipe, bb);
+	}
+
 	/*
 	 * Workhorse method.
 	 */
@@ -85,6 +139,8 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				o = is.readDouble();
 			else if (dt == STRING)
 				o = trim(is.readString());
+			else if (dt == BIN && (sType.getInnerClass() == ByteBuffer.class || (sType.isObject() && isZeroCopy())))
+				o = is.readBinarySlice();
 			else if (dt == BIN)
 				o = is.readBinary();
 			else if (dt == ARRAY && sType.isObject()) {
@@ -99,7 +155,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				o = cast(om, pMeta, eType);
 			}
 
-			if (sType.isObject()) {
+			if (sType.isObject() || o instanceof ByteBuffer) {
 				// Do nothing.
 			} else if (sType.isBoolean() || sType.isCharSequence() || sType.isChar() || sType.isNumber()) {
 				o = convertToType(o, sType);
@@ -121,7 +177,9 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				if (dt == MAP) {
 					BeanMap m = builder == null ? newBeanMap(outer, sType.getInnerClass()) : toBeanMap(builder.create(this, eType));
 					for (int i = 0; i < length; i++) {
-						String pName = parseAnything(string(), is, m.getBean(false), null);
+						String pName = isTrimStrings() ? null : is.readPropertyName(m.getMeta());
+						if (pName == null)
+							pName = parseAnything(string(), is, m.getBean(false), null);
 						BeanPropertyMeta bpm = m.getPropertyMeta(pName);
 						if (bpm == null) {
 							if (pName.equals(getBeanTypePropertyName(eType)))
@@ -201,4 +259,19 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 
 		return (T)o;
 	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Properties
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Configuration property:  Read byte input in place.
+	 *
+	 * @see MsgPackParser#MSGPACK_zeroCopy
+	 * @return
+	 * 	<jk>true</jk> if byte array and byte buffer input is read directly from the backing array.
+	 */
+	protected final boolean isZeroCopy() {
+		return ctx.isZeroCopy();
+	}
 }
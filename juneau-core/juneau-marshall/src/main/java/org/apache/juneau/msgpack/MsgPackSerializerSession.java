@@ -56,7 +56,12 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 
 	@Override /* SerializerSession */
 	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
-		serializeAnything(getMsgPackOutputStream(out), o, getExpectedRootType(o), "root", null);
+		MsgPackOutputStream os = getMsgPackOutputStream(out);
+		serializeAnything(os, o, getExpectedRootType(o), "root", null);
+
+		// Return the buffer to the pool.  Remaining output is flushed by the pipe if an error occurs instead.
+		if (os != out.getRawOutput())
+			os.release();
 	}
 
 	/*
@@ -134,6 +139,10 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 		else if (sType.isArray()) {
 			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
 		}
+		else if (sType.isStreamable()) {
+			// MessagePack array headers need the element count, so the elements are buffered.
+			serializeCollection(out, toStreamingCollection(o, null), eType);
+		}
 		else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
 		}
@@ -13,6 +13,7 @@
 package org.apache.juneau.parser;
 
 import java.io.*;
+import java.lang.ref.*;
 import java.lang.reflect.*;
 import java.util.*;
 
@@ -275,6 +276,66 @@ public abstract class Parser extends BeanContext {
 	 */
 	public static final String PARSER_listener = PREFIX + "listener.c";
 
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Parser.poolSessions.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link ParserBuilder#poolSessions(boolean)}
+	 * 			<li class='jm'>{@link ParserBuilder#poolSessions()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, the convenience methods that parse using the default session arguments
+	 * (e.g. {@link #parse(Object, Class)}, {@link #parseIntoMap(Object, Map, Type, Type)}) reuse a session cached on
+	 * the current thread instead of creating a new session for every call.
+	 *
+	 * <p>
+	 * Sessions are cleared by calling {@link Session#resetSession()} before being handed back to the pool.
+	 * <br>Sessions created through {@link #createSession(ParserSessionArgs)} are never pooled.
+	 * <br>If the parser is called again while a pooled session is already in use on the same thread, a new session
+	 * is created for the nested call.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Listeners defined through {@link #PARSER_listener} are created once per session, so pooled sessions
+	 * 		reuse the same listener instance across calls.
+	 * 	<li>
+	 * 		The pooled session is only weakly referenced from the thread, so it doesn't keep the parser from being
+	 * 		garbage collected and may be discarded at any garbage collection.
+	 * 	<li>
+	 * 		Pooling does not apply to REST calls.
+	 * 		<br>The REST server and client create a session per request through
+	 * 		{@link #createSession(ParserSessionArgs)} with arguments specific to that request (e.g. locale, media
+	 * 		type, and per-request properties), so those calls always get a new session.
+	 * </ul>
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that reuses sessions.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.poolSessions()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>PARSER_poolSessions</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String PARSER_poolSessions = PREFIX + "poolSessions.b";
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -471,9 +532,10 @@ public abstract class Parser extends BeanContext {
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
-	private final boolean trimStrings, strict, autoCloseStreams, unbuffered;
+	private final boolean trimStrings, strict, autoCloseStreams, unbuffered, poolSessions;
 	private final int debugOutputLines;
 	private final Class<? extends ParserListener> listener;
+	private final ThreadLocal<WeakReference<ParserSession>> sessionPool;
 
 	/** General parser properties currently set on this parser. */
 	private final MediaType[] consumes;
@@ -493,6 +555,8 @@ public abstract class Parser extends BeanContext {
 		debugOutputLines = getIntegerProperty(PARSER_debugOutputLines, 5);
 		unbuffered = getBooleanProperty(PARSER_unbuffered, false);
 		listener = getClassProperty(PARSER_listener, ParserListener.class, null);
+		poolSessions = getBooleanProperty(PARSER_poolSessions, false);
+		sessionPool = poolSessions ? new ThreadLocal<WeakReference<ParserSession>>() : null;
 		this.consumes = new MediaType[consumes.length];
 		for (int i = 0; i < consumes.length; i++) {
 			this.consumes[i] = MediaType.forString(consumes[i]);
@@ -629,7 +693,12 @@ public abstract class Parser extends BeanContext {
 	 * @see BeanSession#getClassMeta(Type,Type...) for argument syntax for maps and collections.
 	 */
 	public final <T> T parse(Object input, Type type, Type...args) throws ParseException {
-		return createSession().parse(input, type, args);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type, args);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -668,7 +737,12 @@ public abstract class Parser extends BeanContext {
 	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
 	 */
 	public final <T> T parse(Object input, Class<T> type) throws ParseException {
-		return createSession().parse(input, type);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -688,7 +762,12 @@ public abstract class Parser extends BeanContext {
 	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
 	 */
 	public final <T> T parse(Object input, ClassMeta<T> type) throws ParseException {
-		return createSession().parse(input, type);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	@Override /* Context */
@@ -701,6 +780,39 @@ public abstract class Parser extends BeanContext {
 		return new ParserSessionArgs().mediaType(getPrimaryMediaType());
 	}
 
+	/**
+	 * Returns a session created with the default session arguments for use by the convenience parse methods.
+	 *
+	 * <p>
+	 * If {@link #PARSER_poolSessions} is enabled, returns the session pooled on the current thread if there is one.
+	 * <br>Must be paired with a call to {@link #releaseSession(ParserSession)}.
+	 *
+	 * @return A session ready for use.
+	 */
+	private ParserSession acquireSession() {
+		if (sessionPool != null) {
+			WeakReference<ParserSession> r = sessionPool.get();
+			ParserSession s = r == null ? null : r.get();
+			if (s != null) {
+				sessionPool.set(null);
+				return s;
+			}
+		}
+		return createSession();
+	}
+
+	/**
+	 * Returns a session obtained from {@link #acquireSession()} to the pool of the current thread.
+	 *
+	 * @param s The session to release.
+	 */
+	private void releaseSession(ParserSession s) {
+		if (sessionPool != null) {
+			s.resetSession();
+			sessionPool.set(new WeakReference<>(s));
+		}
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Optional methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -730,7 +842,12 @@ public abstract class Parser extends BeanContext {
 	 * @throws UnsupportedOperationException If not implemented.
 	 */
 	public final <K,V> Map<K,V> parseIntoMap(Object input, Map<K,V> m, Type keyType, Type valueType) throws ParseException {
-		return createSession().parseIntoMap(input, m, keyType, valueType);
+		ParserSession s = acquireSession();
+		try {
+			return s.parseIntoMap(input, m, keyType, valueType);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -754,7 +871,12 @@ public abstract class Parser extends BeanContext {
 	 * @throws UnsupportedOperationException If not implemented.
 	 */
 	public final <E> Collection<E> parseIntoCollection(Object input, Collection<E> c, Type elementType) throws ParseException {
-		return createSession().parseIntoCollection(input, c, elementType);
+		ParserSession s = acquireSession();
+		try {
+			return s.parseIntoCollection(input, c, elementType);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -781,7 +903,12 @@ public abstract class Parser extends BeanContext {
 	public final Object[] parseArgs(Object input, Type[] argTypes) throws ParseException {
 		if (argTypes == null || argTypes.length == 0)
 			return new Object[0];
-		return createSession().parseArgs(input, argTypes);
+		ParserSession s = acquireSession();
+		try {
+			return s.parseArgs(input, argTypes);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 
@@ -814,6 +941,7 @@ public abstract class Parser extends BeanContext {
 				.append("trimStrings", trimStrings)
 				.append("strict", strict)
 				.append("listener", listener)
+				.append("poolSessions", poolSessions)
 			);
 	}
 
@@ -881,6 +1009,17 @@ public abstract class Parser extends BeanContext {
 		return unbuffered;
 	}
 
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * @see #PARSER_poolSessions
+	 * @return
+	 * 	<jk>true</jk> if sessions used by the convenience parse methods are reused per thread.
+	 */
+	protected final boolean isPoolSessions() {
+		return poolSessions;
+	}
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
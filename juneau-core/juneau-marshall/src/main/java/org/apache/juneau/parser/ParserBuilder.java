@@ -121,6 +121,44 @@ public class ParserBuilder extends BeanContextBuilder {
 		return set(PARSER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <p>
+	 * Reuse sessions per thread in the convenience parse methods instead of creating a new session for every call.
+	 * <br>Does not apply to the sessions created per request by the REST server and client.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_poolSessions}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder poolSessions(boolean value) {
+		return set(PARSER_poolSessions, value);
+	}
+
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>poolSessions(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_poolSessions}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder poolSessions() {
+		return set(PARSER_poolSessions, true);
+	}
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -563,6 +601,18 @@ public class ParserBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public ParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public ParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public ParserBuilder set(String name, Object value) {
 		super.set(name, value);
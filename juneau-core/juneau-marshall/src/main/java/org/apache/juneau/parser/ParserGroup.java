@@ -15,10 +15,10 @@ package org.apache.juneau.parser;
 import static org.apache.juneau.internal.CollectionUtils.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents a group of {@link Parser Parsers} that can be looked up by media type.
@@ -79,7 +79,7 @@ public final class ParserGroup extends BeanContext {
 	public static final ParserGroup EMPTY = create().build();
 
 	// Maps Content-Type headers to matches.
-	private final ConcurrentHashMap<String,ParserMatch> cache = new ConcurrentHashMap<>();
+	private final Cache<String,ParserMatch> cache = new Cache<>(false, Constants.CACHE_MAX_SIZE);
 
 	private final MediaType[] mediaTypes;            // List of media types
 	private final List<MediaType> mediaTypesList;
@@ -147,6 +147,7 @@ public final class ParserGroup extends BeanContext {
 	 * @return The parser and media type that matched the content type header, or <jk>null</jk> if no match was made.
 	 */
 	public ParserMatch getParserMatch(String contentTypeHeader) {
+		contentTypeHeader = contentTypeHeader.trim();
 		ParserMatch pm = cache.get(contentTypeHeader);
 		if (pm != null)
 			return pm;
@@ -154,12 +155,38 @@ public final class ParserGroup extends BeanContext {
 		ContentType ct = ContentType.forString(contentTypeHeader);
 		int match = ct.findMatch(mediaTypes);
 
-		if (match >= 0) {
-			pm = new ParserMatch(mediaTypes[match], mediaTypeParsers[match]);
-			cache.putIfAbsent(contentTypeHeader, pm);
-		}
+		if (match >= 0)
+			return cache.put(contentTypeHeader, new ParserMatch(mediaTypes[match], mediaTypeParsers[match]));
+
+		return null;
+	}
+
+	/**
+	 * Returns the number of <l>Content-Type</l> headers whose matches are currently cached.
+	 *
+	 * @return The number of cached matches.
+	 */
+	public int getMatchCacheSize() {
+		return cache.size();
+	}
 
-		return cache.get(contentTypeHeader);
+	/**
+	 * Returns the fraction of {@link #getParserMatch(String)} calls that were answered from the match cache.
+	 *
+	 * @return The cache hit rate between <code>0</code> and <code>1</code>, or <code>0</code> if no lookups were made.
+	 */
+	public double getMatchCacheHitRate() {
+		long hits = cache.getHits(), total = hits + cache.getMisses();
+		return total == 0 ? 0 : (double)hits / total;
+	}
+
+	/**
+	 * Returns the number of cached matches that have been evicted to make room for new ones.
+	 *
+	 * @return The number of evictions from the match cache.
+	 */
+	public long getMatchCacheEvictions() {
+		return cache.getEvictions();
 	}
 
 	/**
@@ -207,6 +207,44 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return set(PARSER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <p>
+	 * Reuse sessions per thread in the convenience parse methods instead of creating a new session for every call.
+	 * <br>Does not apply to the sessions created per request by the REST server and client.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_poolSessions}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroupBuilder poolSessions(boolean value) {
+		return set(PARSER_poolSessions, value);
+	}
+
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>poolSessions(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_poolSessions}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroupBuilder poolSessions() {
+		return set(PARSER_poolSessions, true);
+	}
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -710,6 +748,18 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public ParserGroupBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public ParserGroupBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public ParserGroupBuilder set(String name, Object value) {
 		super.set(name, value);
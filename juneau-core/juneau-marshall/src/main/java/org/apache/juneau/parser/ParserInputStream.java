@@ -35,7 +35,20 @@ public class ParserInputStream extends InputStream implements Positionable {
 	 * @throws Exception
 	 */
 	protected ParserInputStream(ParserPipe pipe) throws Exception {
-		this.is = pipe.getInputStream();
+		this(pipe, pipe.getInputStream());
+	}
+
+	/**
+	 * Constructor for subclasses that read their input from somewhere other than {@link ParserPipe#getInputStream()}.
+	 *
+	 * <p>
+	 * Subclasses that pass in <jk>null</jk> must override {@link #read()} and {@link #getPosition()}.
+	 *
+	 * @param pipe The parser input.
+	 * @param is The stream to read from.
+	 */
+	protected ParserInputStream(ParserPipe pipe, InputStream is) {
+		this.is = is;
 		pipe.setPositionable(this);
 	}
 
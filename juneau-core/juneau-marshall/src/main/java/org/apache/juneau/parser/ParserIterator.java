@@ -0,0 +1,155 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+
+/**
+ * An iterator over the elements of a parsed array that decodes one element at a time.
+ *
+ * <p>
+ * Allows very large inputs to be processed with constant memory.
+ * <br>The underlying input is closed when the iterator is exhausted, when a parse error occurs, or when
+ * {@link #close()} is called.
+ *
+ * <p>
+ * Since {@link Iterator} methods can't throw checked exceptions, {@link ParseException ParseExceptions} are thrown
+ * wrapped inside {@link BeanRuntimeException BeanRuntimeExceptions}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; i = JsonParser.<jsf>DEFAULT</jsf>.parseIterator(input, MyBean.<jk>class</jk>)) {
+ * 		<jk>while</jk> (i.hasNext())
+ * 			process(i.next());
+ * 	}
+ * </p>
+ *
+ * <p>
+ * <b>Warning:</b>  Not thread safe.
+ *
+ * @param <E> The element type.
+ */
+public abstract class ParserIterator<E> implements Iterator<E>, Closeable {
+
+	private final ParserSession session;
+	private final Closeable input;
+	private Boolean hasNext;
+	private boolean closed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param session The parser session doing the parsing.
+	 * @param input The input to close when iteration is complete.
+	 */
+	protected ParserIterator(ParserSession session, Closeable input) {
+		this.session = session;
+		this.input = input;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if there's another element to read from the input.
+	 *
+	 * @return <jk>true</jk> if there's another element to read from the input.
+	 * @throws Exception Malformed input encountered.
+	 */
+	protected abstract boolean hasNextElement() throws Exception;
+
+	/**
+	 * Reads the next element from the input.
+	 *
+	 * @return The next element.
+	 * @throws Exception Malformed input encountered.
+	 */
+	protected abstract E nextElement() throws Exception;
+
+	@Override /* Iterator */
+	public boolean hasNext() {
+		if (closed)
+			return false;
+		if (hasNext == null) {
+			try {
+				hasNext = hasNextElement();
+			} catch (Exception e) {
+				throw fail(e);
+			}
+			if (! hasNext)
+				close();
+		}
+		return hasNext;
+	}
+
+	@Override /* Iterator */
+	public E next() {
+		if (! hasNext())
+			throw new NoSuchElementException();
+		hasNext = null;
+		try {
+			return nextElement();
+		} catch (Exception e) {
+			throw fail(e);
+		}
+	}
+
+	/**
+	 * Returns the remaining elements as a sequential {@link Stream}.
+	 *
+	 * <p>
+	 * Closing the stream closes this iterator.
+	 *
+	 * @return A new stream.
+	 */
+	public Stream<E> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false).onClose(
+			new Runnable() {
+				@Override
+				public void run() {
+					close();
+				}
+			}
+		);
+	}
+
+	private BeanRuntimeException fail(Exception e) {
+		close();
+		if (e instanceof ParseException)
+			return new BeanRuntimeException(e);
+		if (e instanceof IOException)
+			return new BeanRuntimeException(new ParseException(session, e, "I/O exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage()));
+		return new BeanRuntimeException(new ParseException(session, e, "Exception occurred.  exception={0}, message={1}.",
+			e.getClass().getSimpleName(), e.getLocalizedMessage()));
+	}
+
+	/**
+	 * Closes the underlying input.
+	 *
+	 * <p>
+	 * Can be called multiple times.
+	 */
+	@Override /* Closeable */
+	public void close() {
+		if (! closed) {
+			closed = true;
+			try {
+				input.close();
+			} catch (IOException e) {
+				throw new BeanRuntimeException(e);
+			}
+		}
+	}
+}
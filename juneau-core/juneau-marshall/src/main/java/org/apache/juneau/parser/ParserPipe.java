@@ -16,6 +16,7 @@ import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
+import java.nio.*;
 import java.nio.charset.*;
 
 import org.apache.juneau.*;
@@ -40,6 +41,7 @@ import org.apache.juneau.internal.*;
  * <ul>
  * 	<li>{@link InputStream}
  * 	<li><code><jk>byte</jk>[]</code>
+ * 	<li>{@link ByteBuffer} - The remaining bytes.
  * 	<li>{@link File}
  * 	<li>{@link String} - Hex-encoded bytes.  (not BASE-64!)
  * 	<li><code><jk>null</jk></code>
@@ -169,6 +171,15 @@ public final class ParserPipe implements Closeable {
 				inputString = toHex((byte[])input);
 			inputStream = new ByteArrayInputStream((byte[])input);
 			doClose = false;
+		} else if (input instanceof ByteBuffer) {
+			ByteBuffer bb = getInputBuffer((ByteBuffer)input);
+			if (debug) {
+				byte[] b = new byte[bb.remaining()];
+				bb.duplicate().get(b);
+				inputString = toHex(b);
+			}
+			inputStream = new ByteArrayInputStream(bb.array(), bb.arrayOffset() + bb.position(), bb.remaining());
+			doClose = false;
 		} else if (input instanceof String) {
 			inputString = (String)input;
 			inputStream = new ByteArrayInputStream(convertFromString((String)input));
@@ -189,6 +200,35 @@ public final class ParserPipe implements Closeable {
 		return inputStream;
 	}
 
+	/**
+	 * Returns the input as a byte buffer that can be read in place without going through an {@link InputStream}.
+	 *
+	 * <p>
+	 * Only applies when the input is a <code><jk>byte</jk>[]</code> or {@link ByteBuffer} and debug mode is disabled.
+	 * <br>The returned buffer is always backed by an accessible array.
+	 * <br>Buffers without one (e.g. direct buffers) are copied into a new array.
+	 * <br>The position of a {@link ByteBuffer} passed in as input is not changed.
+	 *
+	 * @return The input as a byte buffer, or <jk>null</jk> if the input must be read through {@link #getInputStream()}.
+	 */
+	public ByteBuffer getInputBuffer() {
+		if (debug)
+			return null;
+		if (input instanceof byte[])
+			return ByteBuffer.wrap((byte[])input);
+		if (input instanceof ByteBuffer)
+			return getInputBuffer((ByteBuffer)input);
+		return null;
+	}
+
+	private static ByteBuffer getInputBuffer(ByteBuffer bb) {
+		if (bb.hasArray() && ! bb.isReadOnly())
+			return bb.duplicate();
+		byte[] b = new byte[bb.remaining()];
+		bb.duplicate().get(b);
+		return ByteBuffer.wrap(b);
+	}
+
 	private byte[] convertFromString(String in) {
 		switch(binaryFormat) {
 			case BASE64: return base64Decode(in);
@@ -314,6 +354,73 @@ public final class ParserPipe implements Closeable {
 		return parserReader;
 	}
 
+	/**
+	 * Converts this pipe into a {@link ParserReader} that decodes UTF-8 bytes directly without going through an
+	 * {@link InputStreamReader}.
+	 *
+	 * <p>
+	 * Only applies when the input is an {@link InputStream} or <code><jk>byte</jk>[]</code>, the input stream charset
+	 * is UTF-8, and debug and unbuffered modes are disabled.
+	 * <br>Otherwise, this is equivalent to calling {@link #getParserReader()}.
+	 *
+	 * @return The converted pipe.
+	 * @throws Exception
+	 */
+	public ParserReader getUtf8ParserReader() throws Exception {
+		if (debug || unbuffered || ! (input instanceof InputStream || input instanceof byte[]) || ! isUtf8(inputStreamCharset))
+			return getParserReader();
+		if (input instanceof InputStream) {
+			inputStream = (InputStream)input;
+			doClose = autoCloseStreams;
+			parserReader = new Utf8ParserReader(this, inputStream);
+		} else {
+			parserReader = new Utf8ParserReader(this, (byte[])input);
+		}
+		return parserReader;
+	}
+
+	/**
+	 * Returns the input as undecoded bytes for parsers that decode characters themselves (e.g. StAX parsers).
+	 *
+	 * <p>
+	 * Only applies when the input is an {@link InputStream} or <code><jk>byte</jk>[]</code>, debug mode is disabled,
+	 * and strict mode is enabled.
+	 * <br>Non-strict mode requires malformed input to be ignored, which can only be guaranteed when the pipe does the
+	 * decoding.
+	 * <br>The bytes must be decoded using {@link #getInputStreamCharset()}.
+	 *
+	 * @return The input as a byte stream, or <jk>null</jk> if the input must be read using {@link #getReader()}.
+	 */
+	public InputStream getUndecodedInputStream() {
+		if (debug || ! strict || ! (input instanceof InputStream || input instanceof byte[]))
+			return null;
+		if (input instanceof InputStream) {
+			inputStream = (InputStream)input;
+			doClose = autoCloseStreams;
+		} else {
+			inputStream = new ByteArrayInputStream((byte[])input);
+			doClose = false;
+		}
+		return inputStream;
+	}
+
+	/**
+	 * Returns the name of the charset to use for decoding bytes returned by {@link #getUndecodedInputStream()}.
+	 *
+	 * @return The input stream charset name.
+	 */
+	public String getInputStreamCharset() {
+		if ("default".equalsIgnoreCase(inputStreamCharset))
+			return Charset.defaultCharset().name();
+		return inputStreamCharset;
+	}
+
+	private static boolean isUtf8(String charset) {
+		if ("default".equalsIgnoreCase(charset))
+			return StandardCharsets.UTF_8.equals(Charset.defaultCharset());
+		return "UTF-8".equalsIgnoreCase(charset) || "UTF8".equalsIgnoreCase(charset);
+	}
+
 	/**
 	 * Returns <jk>true</jk> if the contents passed into this pipe was a {@link CharSequence}.
 	 *
@@ -346,6 +453,8 @@ public final class ParserPipe implements Closeable {
 
 	@Override /* Closeable */
 	public void close() {
+		if (positionable instanceof ParserReader && positionable != input)
+			((ParserReader)positionable).release();
 		try {
 			if (doClose)
 				IOUtils.close(reader, inputStream);
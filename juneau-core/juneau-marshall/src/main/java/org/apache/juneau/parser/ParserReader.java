@@ -14,8 +14,6 @@ package org.apache.juneau.parser;
 
 import java.io.*;
 
-import org.apache.juneau.internal.*;
-
 /**
  * Similar to a {@link java.io.PushbackReader} with a pushback buffer of 1 character.
  *
@@ -27,13 +25,26 @@ import org.apache.juneau.internal.*;
  * characters from the previous mark point.
  *
  * <p>
+ * String input is copied directly into the character buffer without going through an intermediate reader.
+ * <br>Character buffers are recycled through a per-thread pool and returned to it when the {@link ParserPipe} that
+ * created this reader is closed, so repeated parses on the same thread don't allocate new buffers.
+ *
+ * <p>
  * <b>Warning:</b>  Not thread safe.
  */
 public class ParserReader extends Reader implements Positionable {
 
-	/** Wrapped reader */
+	/** Wrapped reader, or <jk>null</jk> if reading directly from a string or if the subclass provides its own input. */
 	protected final Reader r;
 
+	// Buffers larger than this aren't returned to the pool so that a single large token doesn't pin memory to a thread.
+	private static final int MAX_POOLED_BUFFER = 8192;
+	private static final ThreadLocal<char[]> BUFFER_POOL = new ThreadLocal<>();
+
+	private final String in;   // String input read directly into the buffer.
+	private int inPos;         // Read position in the string input.
+	private MarkedView markedView;
+
 	private char[] buff;       // Internal character buffer
 	private int line = 1;      // Current line number
 	private int column;        // Current column number
@@ -52,20 +63,57 @@ public class ParserReader extends Reader implements Positionable {
 	public ParserReader(ParserPipe pipe) throws IOException {
 		this.unbuffered = pipe.unbuffered;
 		if (pipe.isString()) {
-			String in = pipe.getInputAsString();
-			this.r = new CharSequenceReader(in);
-			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
+			this.in = pipe.getInputAsString();
+			this.r = null;
 		} else {
 			Reader _r = pipe.getReader();
-			if (_r instanceof ParserReader)
+			if (_r instanceof ParserReader && ((ParserReader)_r).r != null)
 				this.r = ((ParserReader)_r).r;
 			else
 				this.r = _r;
-			this.buff = new char[1024];
+			this.in = null;
 		}
+		this.buff = acquireBuffer();
 		pipe.setPositionable(this);
 	}
 
+	/**
+	 * Constructor for subclasses that provide their own source of characters by overriding
+	 * {@link #read(char[], int, int)}.
+	 *
+	 * @param pipe The parser input.
+	 * @param r The wrapped reader, or <jk>null</jk> if the subclass doesn't read from a reader.
+	 */
+	protected ParserReader(ParserPipe pipe, Reader r) {
+		this.unbuffered = pipe.unbuffered;
+		this.r = r;
+		this.in = null;
+		this.buff = acquireBuffer();
+		pipe.setPositionable(this);
+	}
+
+	private static char[] acquireBuffer() {
+		char[] b = BUFFER_POOL.get();
+		if (b == null)
+			return new char[1024];
+		BUFFER_POOL.set(null);
+		return b;
+	}
+
+	/**
+	 * Returns the internal character buffer to the per-thread pool.
+	 *
+	 * <p>
+	 * Called by {@link ParserPipe#close()}.
+	 * <br>This reader must not be used after this method is called.
+	 */
+	protected final void release() {
+		char[] b = buff;
+		buff = null;
+		if (b != null && b.length <= MAX_POOLED_BUFFER)
+			BUFFER_POOL.set(b);
+	}
+
 	/**
 	 * Reads a single character.
 	 *
@@ -322,6 +370,77 @@ public class ParserReader extends Reader implements Positionable {
 		return s;
 	}
 
+	/**
+	 * Same as {@link #getMarked(int, int)} but returns a view over the internal buffer instead of a new string.
+	 *
+	 * <p>
+	 * Allows parsers to match tokens such as property names against known values without creating string objects.
+	 * <br>The returned object is reused and is only valid until the next read from this reader.
+	 * <br>Use {@link String#contentEquals(CharSequence)} to compare it against a string, or call
+	 * {@link Object#toString()} on it to get a copy.
+	 *
+	 * @param offsetStart The offset of the start position.
+	 * @param offsetEnd The offset of the end position.
+	 * @return A view of the marked characters in the internal buffer.
+	 */
+	public final CharSequence getMarkedView(int offsetStart, int offsetEnd) {
+		int offset = 0;
+		if (holesExist) {
+			for (int i = iMark; i < iCurrent; i++) {
+				char c = buff[i];
+				if (c == 127)
+					offset++;
+				else
+					buff[i-offset] = c;
+			}
+			holesExist = false;
+		}
+		if (markedView == null)
+			markedView = new MarkedView();
+		markedView.start = iMark + offsetStart;
+		markedView.length = iCurrent - iMark + offsetEnd - offsetStart - offset;
+		iMark = -1;
+		return markedView;
+	}
+
+	/*
+	 * Reusable view over a section of the character buffer.
+	 * Hash code is computed the same way as String.hashCode() so that views can be used to probe string-keyed tables.
+	 */
+	private final class MarkedView implements CharSequence {
+		int start, length;
+
+		@Override /* CharSequence */
+		public int length() {
+			return length;
+		}
+
+		@Override /* CharSequence */
+		public char charAt(int index) {
+			if (index < 0 || index >= length)
+				throw new StringIndexOutOfBoundsException(index);
+			return buff[start + index];
+		}
+
+		@Override /* CharSequence */
+		public CharSequence subSequence(int begin, int end) {
+			return toString().substring(begin, end);
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			int h = 0;
+			for (int i = start, e = start + length; i < e; i++)
+				h = 31*h + buff[i];
+			return h;
+		}
+
+		@Override /* Object */
+		public String toString() {
+			return new String(buff, start, length);
+		}
+	}
+
 	/**
 	 * Trims off the last character in the marking buffer.
 	 *
@@ -395,10 +514,21 @@ public class ParserReader extends Reader implements Positionable {
 	 * Subclasses can override this method to provide additional filtering.
 	 *
 	 * <p>
-	 * Default implementation simply calls the same method on the underlying reader.
+	 * Default implementation simply calls the same method on the underlying reader, or copies directly from the
+	 * input string.
 	 */
 	@Override /* Reader */
 	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (in != null) {
+			int remaining = in.length() - inPos;
+			if (remaining <= 0)
+				return -1;
+			if (len > remaining)
+				len = remaining;
+			in.getChars(inPos, inPos + len, cbuf, off);
+			inPos += len;
+			return len;
+		}
 		return unbuffered ? r.read(cbuf, off, 1) : r.read(cbuf, off, len);
 	}
 
@@ -772,6 +772,15 @@ public abstract class ParserSession extends BeanSession {
 		return pipe.getPosition();
 	}
 
+	@Override /* Session */
+	public void resetSession() {
+		super.resetSession();
+		currentProperty = null;
+		currentClass = null;
+		pipe = null;
+		unmark();
+	}
+
 	/**
 	 * Marks the current position.
 	 */
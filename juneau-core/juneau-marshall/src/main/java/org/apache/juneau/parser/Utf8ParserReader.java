@@ -0,0 +1,195 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.io.*;
+import java.nio.charset.*;
+
+/**
+ * A {@link ParserReader} that decodes UTF-8 bytes from a byte array or input stream into its character buffer.
+ *
+ * <p>
+ * Bypasses the {@link InputStreamReader} and {@link CharsetDecoder} normally used for converting bytes to characters.
+ * <br>Parsing still happens on the decoded characters.
+ * <br>Runs of ASCII characters (which make up all the syntax characters and typically most of the content of
+ * formats such as JSON) are copied straight into the character buffer, and multi-byte sequences are decoded inline.
+ * <br>Byte array input is read in-place without being copied.
+ *
+ * <p>
+ * Malformed byte sequences cause a {@link MalformedInputException} to be thrown in strict mode, and are otherwise
+ * replaced with <js>U+FFFD</js> replacement characters.
+ *
+ * <p>
+ * <b>Warning:</b>  Not thread safe.
+ */
+public class Utf8ParserReader extends ParserReader {
+
+	private static final char REPLACEMENT = '\ufffd';
+
+	private final InputStream is;  // Null if reading from a byte array.
+	private final boolean strict;
+	private byte[] b;              // The bytes being decoded.
+	private int pos, end;          // Current position and end of valid bytes in b.
+	private boolean eof;           // Underlying input has been fully read into b.
+	private char pendingLow;       // Low surrogate that didn't fit into the last read.
+
+	/**
+	 * Constructor for reading from a byte array.
+	 *
+	 * @param pipe The parser input.
+	 * @param input The UTF-8 encoded bytes.
+	 */
+	public Utf8ParserReader(ParserPipe pipe, byte[] input) {
+		super(pipe, null);
+		this.is = null;
+		this.strict = pipe.strict;
+		this.b = input;
+		this.end = input.length;
+		this.eof = true;
+	}
+
+	/**
+	 * Constructor for reading from an input stream.
+	 *
+	 * @param pipe The parser input.
+	 * @param input The UTF-8 encoded input stream.
+	 */
+	public Utf8ParserReader(ParserPipe pipe, InputStream input) {
+		super(pipe, null);
+		this.is = input;
+		this.strict = pipe.strict;
+		this.b = new byte[8192];
+	}
+
+	@Override /* ParserReader */
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		int o = off, max = off + len;
+		if (pendingLow != 0 && o < max) {
+			cbuf[o++] = pendingLow;
+			pendingLow = 0;
+		}
+		while (o < max) {
+			if (pos >= end && (o > off || ! fill()))
+				break;
+
+			// Copy runs of ASCII characters directly.
+			byte[] b = this.b;
+			int p = pos, e = end;
+			while (o < max && p < e && b[p] >= 0)
+				cbuf[o++] = (char)b[p++];
+			pos = p;
+
+			if (o < max && p < e) {
+				int c = decode();
+				if (c < 0x10000) {
+					cbuf[o++] = (char)c;
+				} else {
+					cbuf[o++] = Character.highSurrogate(c);
+					if (o < max)
+						cbuf[o++] = Character.lowSurrogate(c);
+					else
+						pendingLow = Character.lowSurrogate(c);
+				}
+			}
+		}
+		return o == off ? -1 : o - off;
+	}
+
+	/*
+	 * Decodes the multi-byte sequence at the current position and returns the code point.
+	 */
+	private int decode() throws IOException {
+		int b0 = b[pos] & 0xFF, n;
+		if (b0 >= 0xC2 && b0 <= 0xDF)
+			n = 2;
+		else if (b0 >= 0xE0 && b0 <= 0xEF)
+			n = 3;
+		else if (b0 >= 0xF0 && b0 <= 0xF4)
+			n = 4;
+		else
+			return malformed(1);
+
+		if (end - pos < n)
+			ensure(n);
+
+		// Find the number of valid bytes in the sequence.
+		int c = b0 & (0xFF >> (n+1)), i = 1;
+		for (; i < n && pos + i < end; i++) {
+			int bx = b[pos+i] & 0xFF;
+			int lo = 0x80, hi = 0xBF;
+			if (i == 1) {
+				if (b0 == 0xE0)
+					lo = 0xA0;
+				else if (b0 == 0xED)
+					hi = 0x9F;
+				else if (b0 == 0xF0)
+					lo = 0x90;
+				else if (b0 == 0xF4)
+					hi = 0x8F;
+			}
+			if (bx < lo || bx > hi)
+				break;
+			c = (c << 6) | (bx & 0x3F);
+		}
+		if (i < n)
+			return malformed(i);
+
+		pos += n;
+		return c;
+	}
+
+	private int malformed(int len) throws IOException {
+		if (strict)
+			throw new MalformedInputException(len);
+		pos += len;
+		return REPLACEMENT;
+	}
+
+	/*
+	 * Reads more bytes from the input stream.
+	 * Returns false if no more bytes are available.
+	 */
+	private boolean fill() throws IOException {
+		if (eof)
+			return false;
+		pos = end = 0;
+		int x = is.read(b, 0, b.length);
+		if (x == -1) {
+			eof = true;
+			return false;
+		}
+		end = x;
+		return true;
+	}
+
+	/*
+	 * Makes sure at least the specified number of bytes are available from the current position unless the end of
+	 * the input has been reached.
+	 */
+	private void ensure(int n) throws IOException {
+		if (eof)
+			return;
+		int remaining = end - pos;
+		System.arraycopy(b, pos, b, 0, remaining);
+		pos = 0;
+		end = remaining;
+		while (end < n) {
+			int x = is.read(b, end, b.length - end);
+			if (x == -1) {
+				eof = true;
+				return;
+			}
+			end += x;
+		}
+	}
+}
@@ -0,0 +1,112 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+
+/**
+ * Cache of pre-rendered output for string values that serializers write repeatedly, such as enum constants and
+ * bean dictionary names.
+ *
+ * <p>
+ * Values are rendered once using {@link #render(Writer, String)} (quoted and escaped as needed for the settings of
+ * the serializer that owns this cache) and then written as a single character array.
+ * <br>Caches are created once per serializer and are thread-safe.
+ *
+ * <h5 class='section'>Notes:</h5>
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		This class is not intended for external use.
+ * </ul>
+ */
+public abstract class RenderedValueCache {
+
+	private final ConcurrentHashMap<ClassMeta<?>,Entry[]> enums = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String,char[]> names = new ConcurrentHashMap<>();
+
+	/**
+	 * Renders the specified string value exactly as the serializer would write it.
+	 *
+	 * @param w The writer to render the value to.
+	 * @param value The value to render.
+	 * @throws IOException Should never happen.
+	 */
+	protected abstract void render(Writer w, String value) throws IOException;
+
+	/**
+	 * Returns the rendered form of the specified enum constant.
+	 *
+	 * <p>
+	 * The string form of the constant is passed in so that enums whose <code>toString()</code> method doesn't return
+	 * a constant value are never served stale output.
+	 *
+	 * @param cm The class meta of the enum.
+	 * @param value The enum constant.
+	 * @param s The string form of the constant as returned by {@link ClassMeta#toString(Object)}.
+	 * @return The rendered constant, or <jk>null</jk> if the string form doesn't match the cached value.
+	 */
+	public final char[] getEnum(ClassMeta<?> cm, Enum<?> value, String s) {
+		Entry[] e = enums.get(cm);
+		if (e == null) {
+			Enum<?>[] constants = value.getDeclaringClass().getEnumConstants();
+			e = new Entry[constants.length];
+			for (int i = 0; i < constants.length; i++) {
+				String s2 = cm.toString(constants[i]);
+				e[i] = new Entry(s2, s2 == null ? null : render(s2));
+			}
+			enums.put(cm, e);
+		}
+		int i = value.ordinal();
+		if (i < e.length && e[i].value == s)
+			return e[i].rendered;
+		return null;
+	}
+
+	/**
+	 * Returns the rendered form of the specified bean dictionary name.
+	 *
+	 * @param name The dictionary name.
+	 * @return The rendered name.  Never <jk>null</jk>.
+	 */
+	public final char[] getName(String name) {
+		char[] c = names.get(name);
+		if (c == null) {
+			c = render(name);
+			names.put(name, c);
+		}
+		return c;
+	}
+
+	private char[] render(String value) {
+		try (StringBuilderWriter w = new StringBuilderWriter(value.length() + 2)) {
+			render(w, value);
+			return w.toString().toCharArray();
+		} catch (IOException e) {
+			throw new RuntimeException(e);  // Never happens with StringBuilderWriter.
+		}
+	}
+
+	private static final class Entry {
+		final String value;
+		final char[] rendered;
+
+		Entry(String value, char[] rendered) {
+			this.value = value;
+			this.rendered = rendered;
+		}
+	}
+}
@@ -13,6 +13,7 @@
 package org.apache.juneau.serializer;
 
 import java.io.*;
+import java.lang.ref.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -225,6 +226,66 @@ public abstract class Serializer extends BeanTraverseContext {
 	 */
 	public static final String SERIALIZER_listener = PREFIX + "listener.c";
 
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Serializer.poolSessions.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link SerializerBuilder#poolSessions(boolean)}
+	 * 			<li class='jm'>{@link SerializerBuilder#poolSessions()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, the convenience methods that serialize using the default session arguments
+	 * (e.g. {@link #serialize(Object)}, {@link #serialize(Object, Object)}, {@link #serializeToString(Object)})
+	 * reuse a session cached on the current thread instead of creating a new session for every call.
+	 *
+	 * <p>
+	 * Sessions are cleared by calling {@link Session#resetSession()} before being handed back to the pool.
+	 * <br>Sessions created through {@link #createSession(SerializerSessionArgs)} are never pooled.
+	 * <br>If the serializer is called again while a pooled session is already in use on the same thread (e.g. from
+	 * inside a swap), a new session is created for the nested call.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Listeners defined through {@link #SERIALIZER_listener} are created once per session, so pooled sessions
+	 * 		reuse the same listener instance across calls.
+	 * 	<li>
+	 * 		The pooled session is only weakly referenced from the thread, so it doesn't keep the serializer from being
+	 * 		garbage collected and may be discarded at any garbage collection.
+	 * 	<li>
+	 * 		Pooling does not apply to REST calls.
+	 * 		<br>The REST server and client create a session per request through
+	 * 		{@link #createSession(SerializerSessionArgs)} with arguments specific to that request (e.g. locale, media
+	 * 		type, URI context, and per-request properties), so those calls always get a new session.
+	 * </ul>
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that reuses sessions.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.poolSessions()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>SERIALIZER_poolSessions</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String SERIALIZER_poolSessions = PREFIX + "poolSessions.b";
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -711,7 +772,8 @@ public abstract class Serializer extends BeanTraverseContext {
 		sortCollections,
 		sortMaps,
 		addRootType,
-		useWhitespace;
+		useWhitespace,
+		poolSessions;
 	private final UriContext uriContext;
 	private final UriResolution uriResolution;
 	private final UriRelativity uriRelativity;
@@ -721,6 +783,8 @@ public abstract class Serializer extends BeanTraverseContext {
 	private final MediaType[] accepts;
 	private final MediaType produces;
 
+	private final ThreadLocal<WeakReference<SerializerSession>> sessionPool;
+
 	/**
 	 * Constructor
 	 *
@@ -763,6 +827,8 @@ public abstract class Serializer extends BeanTraverseContext {
 		uriRelativity = getProperty(SERIALIZER_uriRelativity, UriRelativity.class, UriRelativity.RESOURCE);
 		useWhitespace = getBooleanProperty(SERIALIZER_useWhitespace, false);
 		listener = getClassProperty(SERIALIZER_listener, SerializerListener.class, null);
+		poolSessions = getBooleanProperty(SERIALIZER_poolSessions, false);
+		sessionPool = poolSessions ? new ThreadLocal<WeakReference<SerializerSession>>() : null;
 
 		this.produces = MediaType.forString(produces);
 		this.accept = accept == null ? MediaTypeRange.parse(produces) : MediaTypeRange.parse(accept);
@@ -839,7 +905,12 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public final void serialize(Object o, Object output) throws SerializeException {
-		createSession().serialize(o, output);
+		SerializerSession s = acquireSession();
+		try {
+			s.serialize(o, output);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -854,7 +925,12 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public Object serialize(Object o) throws SerializeException {
-		return createSession().serialize(o);
+		SerializerSession s = acquireSession();
+		try {
+			return s.serialize(o);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -870,7 +946,45 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public final String serializeToString(Object o) throws SerializeException {
-		return createSession().serializeToString(o);
+		SerializerSession s = acquireSession();
+		try {
+			return s.serializeToString(o);
+		} finally {
+			releaseSession(s);
+		}
+	}
+
+	/**
+	 * Returns a session created with the default session arguments for use by the convenience serialize methods.
+	 *
+	 * <p>
+	 * If {@link #SERIALIZER_poolSessions} is enabled, returns the session pooled on the current thread if there is one.
+	 * <br>Must be paired with a call to {@link #releaseSession(SerializerSession)}.
+	 *
+	 * @return A session ready for use.
+	 */
+	final SerializerSession acquireSession() {
+		if (sessionPool != null) {
+			WeakReference<SerializerSession> r = sessionPool.get();
+			SerializerSession s = r == null ? null : r.get();
+			if (s != null) {
+				sessionPool.set(null);
+				return s;
+			}
+		}
+		return createSession();
+	}
+
+	/**
+	 * Returns a session obtained from {@link #acquireSession()} to the pool of the current thread.
+	 *
+	 * @param s The session to release.
+	 */
+	final void releaseSession(SerializerSession s) {
+		if (sessionPool != null) {
+			s.resetSession();
+			sessionPool.set(new WeakReference<>(s));
+		}
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -1015,6 +1129,17 @@ public abstract class Serializer extends BeanTraverseContext {
 		return sortMaps;
 	}
 
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * @see #SERIALIZER_poolSessions
+	 * @return
+	 * 	<jk>true</jk> if sessions used by the convenience serialize methods are reused per thread.
+	 */
+	protected final boolean isPoolSessions() {
+		return poolSessions;
+	}
+
 	/**
 	 * Configuration property:  Add type attribute to root nodes.
 	 *
@@ -1097,6 +1222,7 @@ public abstract class Serializer extends BeanTraverseContext {
 				.append("uriResolution", uriResolution)
 				.append("uriRelativity", uriRelativity)
 				.append("listener", listener)
+				.append("poolSessions", poolSessions)
 			);
 	}
 }
@@ -140,6 +140,44 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <p>
+	 * Reuse sessions per thread in the convenience serialize methods instead of creating a new session for every call.
+	 * <br>Does not apply to the sessions created per request by the REST server and client.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_poolSessions}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public SerializerBuilder poolSessions(boolean value) {
+		return set(SERIALIZER_poolSessions, value);
+	}
+
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>poolSessions(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_poolSessions}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public SerializerBuilder poolSessions() {
+		return set(SERIALIZER_poolSessions, true);
+	}
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -574,6 +612,12 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* BeanTraverseBuilder */
+	public SerializerBuilder recursionCheckDepth(int value) {
+		super.recursionCheckDepth(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public SerializerBuilder beanClassVisibility(Visibility value) {
 		super.beanClassVisibility(value);
@@ -904,6 +948,18 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public SerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public SerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public SerializerBuilder set(String name, Object value) {
 		super.set(name, value);
@@ -13,12 +13,13 @@
 package org.apache.juneau.serializer;
 
 import static org.apache.juneau.internal.CollectionUtils.*;
+import static org.apache.juneau.internal.StringUtils.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents a group of {@link Serializer Serializers} that can be looked up by media type.
@@ -71,7 +72,7 @@ public final class SerializerGroup extends BeanTraverseContext {
 	public static final SerializerGroup EMPTY = create().build();
 
 	// Maps Accept headers to matching serializers.
-	private final ConcurrentHashMap<String,SerializerMatch> cache = new ConcurrentHashMap<>();
+	private final Cache<String,SerializerMatch> cache = new Cache<>(false, Constants.CACHE_MAX_SIZE);
 
 	private final MediaTypeRange[] mediaTypeRanges;
 	private final Serializer[] mediaTypeRangeSerializers;
@@ -161,14 +162,94 @@ public final class SerializerGroup extends BeanTraverseContext {
 		if (sm != null)
 			return sm;
 
-		Accept a = Accept.forString(acceptHeader);
+		// Equivalent headers share the same parsed Accept header.
+		Accept a = Accept.forString(normalize(acceptHeader));
 		int match = a.findMatch(mediaTypeRanges);
-		if (match >= 0) {
-			sm = new SerializerMatch(mediaTypeRanges[match].getMediaType(), mediaTypeRangeSerializers[match]);
-			cache.putIfAbsent(acceptHeader, sm);
+		if (match < 0)
+			return null;
+
+		return cache.put(acceptHeader, new SerializerMatch(mediaTypeRanges[match].getMediaType(), mediaTypeRangeSerializers[match]));
+	}
+
+	/*
+	 * Normalizes an Accept header so that equivalent headers share a cache entry.
+	 * Media ranges are trimmed and stably sorted by descending q-value, which is the order MediaTypeRange.parse()
+	 * puts them in anyway.
+	 * Headers that can't be cheaply parsed the same way the media ranges are parsed are only trimmed.
+	 */
+	static String normalize(String acceptHeader) {
+		String s = acceptHeader.trim();
+		if (s.indexOf(',') == -1 || s.indexOf('\\') != -1 || s.indexOf('"') != -1)
+			return s;
+		List<String> ranges = new ArrayList<>();
+		final Map<String,Float> qValues = new HashMap<>();
+		for (String r : split(s)) {
+			if (r.isEmpty())
+				continue;
+			Float q = qValue(r);
+			if (q == null)
+				return s;
+			ranges.add(r);
+			qValues.put(r, q);
 		}
+		Collections.sort(ranges, new Comparator<String>() {
+			@Override /* Comparator */
+			public int compare(String o1, String o2) {
+				return Float.compare(qValues.get(o2), qValues.get(o1));
+			}
+		});
+		return join(ranges, ',');
+	}
 
-		return cache.get(acceptHeader);
+	/*
+	 * Returns the q-value of a media range, 1 if it doesn't have one, or null if it can't be parsed.
+	 * Whitespace around the parameter and an uppercase 'Q' are allowed.
+	 */
+	private static Float qValue(String range) {
+		for (int i = range.indexOf(';'); i != -1; ) {
+			int j = range.indexOf(';', i+1);
+			String p = (j == -1 ? range.substring(i+1) : range.substring(i+1, j)).trim();
+			if (! p.isEmpty() && (p.charAt(0) == 'q' || p.charAt(0) == 'Q')) {
+				String v = p.substring(1).trim();
+				if (v.startsWith("=")) {
+					try {
+						return Float.valueOf(v.substring(1).trim());
+					} catch (NumberFormatException e) {
+						return null;
+					}
+				}
+			}
+			i = j;
+		}
+		return 1f;
+	}
+
+	/**
+	 * Returns the number of <l>Accept</l> headers whose matches are currently cached.
+	 *
+	 * @return The number of cached matches.
+	 */
+	public int getMatchCacheSize() {
+		return cache.size();
+	}
+
+	/**
+	 * Returns the fraction of {@link #getSerializerMatch(String)} calls that were answered from the match cache.
+	 *
+	 * @return The cache hit rate between <code>0</code> and <code>1</code>, or <code>0</code> if no lookups were made.
+	 */
+	public double getMatchCacheHitRate() {
+		long hits = cache.getHits(), total = hits + cache.getMisses();
+		return total == 0 ? 0 : (double)hits / total;
+	}
+
+	/**
+	 * Returns the number of cached matches that have been evicted to make room for new ones.
+	 *
+	 * @return The number of evictions from the match cache.
+	 */
+	public long getMatchCacheEvictions() {
+		return cache.getEvictions();
 	}
 
 	/**
@@ -226,6 +226,44 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <p>
+	 * Reuse sessions per thread in the convenience serialize methods instead of creating a new session for every call.
+	 * <br>Does not apply to the sessions created per request by the REST server and client.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_poolSessions}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public SerializerGroupBuilder poolSessions(boolean value) {
+		return set(SERIALIZER_poolSessions, value);
+	}
+
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>poolSessions(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_poolSessions}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public SerializerGroupBuilder poolSessions() {
+		return set(SERIALIZER_poolSessions, true);
+	}
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -653,6 +691,12 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* BeanTraverseBuilder */
+	public SerializerGroupBuilder recursionCheckDepth(int value) {
+		super.recursionCheckDepth(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public SerializerGroupBuilder beanClassVisibility(Visibility value) {
 		super.beanClassVisibility(value);
@@ -983,6 +1027,18 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public SerializerGroupBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public SerializerGroupBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public SerializerGroupBuilder set(String name, Object value) {
 		super.set(name, value);
@@ -45,6 +45,7 @@ public final class SerializerPipe implements Closeable {
 
 	private OutputStream outputStream;
 	private Writer writer;
+	private Utf8OutputStreamWriter utf8Writer;
 
 	/**
 	 * Constructor.
@@ -101,6 +102,7 @@ public final class SerializerPipe implements Closeable {
 	 * <ul>
 	 * 	<li>{@link Writer}
 	 * 	<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
+	 * 		<br>Characters are encoded directly into a pooled byte buffer without going through a charset encoder.
 	 * 	<li>{@link File} - Output will be written as system-default encoded stream.
 	 * </ul>
 	 *
@@ -117,7 +119,7 @@ public final class SerializerPipe implements Closeable {
 		if (output instanceof Writer)
 			writer = (Writer)output;
 		else if (output instanceof OutputStream)
-			writer = new OutputStreamWriter((OutputStream)output, UTF8);
+			writer = (utf8Writer != null ? utf8Writer : (utf8Writer = new Utf8OutputStreamWriter((OutputStream)output)));
 		else if (output instanceof File)
 			writer = new OutputStreamWriter(new BufferedOutputStream(new FileOutputStream((File)output)));
 		else if (output instanceof StringBuilder)
@@ -170,6 +172,8 @@ public final class SerializerPipe implements Closeable {
 	public void close() {
 		try {
 			IOUtils.flush(writer, outputStream);
+			if (utf8Writer != null)
+				utf8Writer.release();
 			if (autoClose)
 				IOUtils.close(writer, outputStream);
 		} catch (IOException e) {
@@ -358,6 +358,9 @@ public abstract class SerializerSession extends BeanTraverseSession {
 	 * @return A new sorted {@link TreeSet}.
 	 */
 	public final <E> Collection<E> sort(Collection<E> c) {
+		// Sorting needs every element, so read streamed collections into memory first.
+		if (isSortCollections() && c instanceof StreamingCollection)
+			c.size();
 		if (isSortCollections() && c != null && (! c.isEmpty()) && c.iterator().next() instanceof Comparable<?>)
 			return new TreeSet<>(c);
 		return c;
@@ -390,6 +393,23 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return Arrays.asList((Object[])array);
 	}
 
+	/**
+	 * Wraps a streamable object in a read-once collection that pulls elements from it as they're serialized.
+	 *
+	 * <p>
+	 * Used for objects whose class meta returns <jk>true</jk> for {@link ClassMeta#isStreamable()}.
+	 * Streams are closed once they've been fully read.
+	 *
+	 * @param o The {@link Iterator}, {@link Enumeration} or {@link java.util.stream.BaseStream}.
+	 * @param out
+	 * 	The output to flush periodically while elements are being written.
+	 * 	Can be <jk>null</jk>.
+	 * @return A collection view of the object.
+	 */
+	protected static final Collection<Object> toStreamingCollection(Object o, Flushable out) {
+		return new StreamingCollection(o, out);
+	}
+
 	/**
 	 * Converts a String to an absolute URI based on the {@link UriContext} on this session.
 	 *
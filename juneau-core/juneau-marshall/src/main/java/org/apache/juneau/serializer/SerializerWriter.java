@@ -50,6 +50,17 @@ public class SerializerWriter extends Writer {
 	/** The URI resolver of the request. */
 	protected final UriResolver uriResolver;
 
+	// Powers of ten that are exactly representable as doubles.
+	private static final double[] exactDoublePowers = new double[18];
+	static {
+		exactDoublePowers[0] = 1;
+		for (int i = 1; i < exactDoublePowers.length; i++)
+			exactDoublePowers[i] = exactDoublePowers[i-1] * 10;
+	}
+
+	// Reusable buffer for formatting numbers.
+	private char[] numberBuff;
+
 	/**
 	 * @param out The writer being wrapped.
 	 * @param useWhitespace
@@ -207,11 +218,93 @@ public class SerializerWriter extends Writer {
 	 * @throws IOException
 	 */
 	public SerializerWriter append(char[] characters) throws IOException {
-		for (char c : characters)
-			append(c);
+		out.write(characters);
+		return this;
+	}
+
+	/**
+	 * Writes the specified number to the writer.
+	 *
+	 * <p>
+	 * The output is always the same as <code>n.toString()</code>, but <code>Integer</code>, <code>Long</code>,
+	 * <code>Short</code>, <code>Byte</code> and most <code>Double</code> values are formatted directly into the
+	 * writer without creating intermediate strings.
+	 *
+	 * @param n The number to write.
+	 * @return This object (for method chaining).
+	 * @throws IOException If a problem occurred trying to write to the writer.
+	 */
+	public SerializerWriter appendNumber(Number n) throws IOException {
+		if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte)
+			writeLong(n.longValue());
+		else if (! (n instanceof Double && writeDouble(n.doubleValue())))
+			out.write(n.toString());
 		return this;
 	}
 
+	private void writeLong(long l) throws IOException {
+		if (numberBuff == null)
+			numberBuff = new char[32];
+		char[] b = numberBuff;
+		int p = b.length;
+
+		// Work with negative values so that Long.MIN_VALUE doesn't overflow.
+		boolean isNegative = l < 0;
+		if (! isNegative)
+			l = -l;
+		do {
+			long q = l / 10;
+			b[--p] = (char)('0' + (q * 10 - l));
+			l = q;
+		} while (l != 0);
+		if (isNegative)
+			b[--p] = '-';
+		out.write(b, p, b.length - p);
+	}
+
+	/*
+	 * Formats doubles in the range that Double.toString() writes in plain notation (1e-3 to 1e7).
+	 * Looks for the fewest fraction digits that convert back to the same double.  With at most 15 significant digits,
+	 * there's only one such decimal, so it's the same one that Double.toString() produces.
+	 * Returns false if the value must be formatted by Double.toString().
+	 */
+	private boolean writeDouble(double d) throws IOException {
+		if (d == 0) {
+			out.write(1/d < 0 ? "-0.0" : "0.0");
+			return true;
+		}
+		double a = Math.abs(d);
+		if (! (a >= 1e-3 && a < 1e7))
+			return false;
+		for (int k = 0; k < exactDoublePowers.length; k++) {
+			double x = a * exactDoublePowers[k];
+			if (x >= 1e15)
+				return false;
+			long m = Math.round(x);
+			if (m / exactDoublePowers[k] == a) {
+				if (numberBuff == null)
+					numberBuff = new char[32];
+				char[] b = numberBuff;
+				int p = b.length, i = 0;
+				if (k == 0) {
+					b[--p] = '0';
+					b[--p] = '.';
+				}
+				do {
+					b[--p] = (char)('0' + m % 10);
+					m /= 10;
+					if (++i == k)
+						b[--p] = '.';
+				} while (m != 0 || i <= k);
+				if (d < 0)
+					b[--p] = '-';
+				out.write(b, p, b.length - p);
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Adds a whitespace character to the output if the {@code useWhitespace} setting is enabled.
 	 *
@@ -376,6 +469,11 @@ public class SerializerWriter extends Writer {
 		out.write(cbuf, off, len);
 	}
 
+	@Override /* Writer */
+	public void write(String str, int off, int len) throws IOException {
+		out.write(str, off, len);
+	}
+
 	@Override /* Writer */
 	public void flush() throws IOException {
 		out.flush();
@@ -0,0 +1,144 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * A read-once collection view over a cursor-like source such as an {@link Iterator}, {@link Enumeration} or
+ * {@link BaseStream}.
+ *
+ * <p>
+ * Elements are pulled from the source only as the serializer iterates over them, so arbitrarily large result sets
+ * can be written without first being copied into memory.
+ * The output is flushed every {@link #FLUSH_INTERVAL} elements so that consumers start receiving data early.
+ *
+ * <p>
+ * Calling {@link #size()} forces the remaining elements into an internal buffer.
+ * This only happens for formats that need the element count up front (e.g. MessagePack array headers) or when
+ * collections are being sorted.
+ */
+final class StreamingCollection extends AbstractCollection<Object> {
+
+	/** Number of elements written between flushes of the underlying output. */
+	static final int FLUSH_INTERVAL = 100;
+
+	private final Iterator<?> source;
+	private final AutoCloseable closeable;
+	private final Flushable out;
+	private List<Object> buffer;
+	private boolean consumed, exhausted;
+	private int count;
+
+	StreamingCollection(Object o, Flushable out) {
+		this.out = out;
+		if (o instanceof BaseStream) {
+			BaseStream<?,?> s = (BaseStream<?,?>)o;
+			this.source = s.iterator();
+			this.closeable = s;
+		} else if (o instanceof Enumeration) {
+			final Enumeration<?> e = (Enumeration<?>)o;
+			this.source = new Iterator<Object>() {
+				@Override /* Iterator */
+				public boolean hasNext() {
+					return e.hasMoreElements();
+				}
+				@Override /* Iterator */
+				public Object next() {
+					return e.nextElement();
+				}
+			};
+			this.closeable = null;
+		} else {
+			this.source = (Iterator<?>)o;
+			this.closeable = null;
+		}
+	}
+
+	@Override /* Collection */
+	public Iterator<Object> iterator() {
+		if (buffer != null)
+			return buffer.iterator();
+		if (consumed)
+			throw new IllegalStateException("Streamed collection has already been consumed.");
+		consumed = true;
+		return new Iterator<Object>() {
+
+			@Override /* Iterator */
+			public boolean hasNext() {
+				if (exhausted)
+					return false;
+				if (source.hasNext())
+					return true;
+				exhausted = true;
+				close();
+				return false;
+			}
+
+			@Override /* Iterator */
+			public Object next() {
+				if (out != null && count > 0 && count % FLUSH_INTERVAL == 0) {
+					try {
+						out.flush();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+				count++;
+				return source.next();
+			}
+		};
+	}
+
+	/**
+	 * Returns the number of elements.
+	 *
+	 * <p>
+	 * If the elements have already been streamed, returns the number of elements that were read.
+	 */
+	@Override /* Collection */
+	public int size() {
+		if (exhausted)
+			return count;
+		if (buffer == null) {
+			if (consumed)
+				throw new IllegalStateException("Streamed collection has already been consumed.");
+			buffer = new ArrayList<>();
+			while (source.hasNext())
+				buffer.add(source.next());
+			close();
+		}
+		return buffer.size();
+	}
+
+	@Override /* Collection */
+	public boolean isEmpty() {
+		if (exhausted)
+			return count == 0;
+		if (buffer != null)
+			return buffer.isEmpty();
+		return ! (consumed || source.hasNext());
+	}
+
+	private void close() {
+		if (closeable != null) {
+			try {
+				closeable.close();
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+}
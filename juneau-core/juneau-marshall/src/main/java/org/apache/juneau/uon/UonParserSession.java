@@ -535,7 +535,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 						else {
 							r.unread();
 							mark();
-							currAttr = parseAttrName(r, decodeChars);
+							currAttr = parseAttrName(r, decodeChars, m.getMeta());
 							if (currAttr == null) { // Value was '%00'
 								return null;
 							}
@@ -641,6 +641,20 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 	 * @throws Exception
 	 */
 	protected final String parseAttrName(UonReader r, boolean encoded) throws Exception {
+		return parseAttrName(r, encoded, null);
+	}
+
+	/**
+	 * Same as {@link #parseAttrName(UonReader, boolean)} but matches the name against the property names of the
+	 * specified bean directly in the reader buffer, so that known property names don't create new strings.
+	 *
+	 * @param r
+	 * @param encoded
+	 * @param bm The bean whose property names are expected.  Can be <jk>null</jk>.
+	 * @return The parsed attribute name.
+	 * @throws Exception
+	 */
+	protected final String parseAttrName(UonReader r, boolean encoded, BeanMeta<?> bm) throws Exception {
 
 		// If string is of form 'xxx', we're looking for ' at the end.
 		// Otherwise, we're looking for '&' or '=' or WS or -1 denoting the end of this string.
@@ -658,7 +672,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					if (c == AMP || c == EQ || c == -1 || Character.isWhitespace(c)) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = getMarked(r, bm);
 						return ("null".equals(s) ? null : s);
 					}
 				}
@@ -675,7 +689,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					if (c == '=' || c == -1 || Character.isWhitespace(c)) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = getMarked(r, bm);
 						return ("null".equals(s) ? null : trim(s));
 					}
 				}
@@ -687,6 +701,16 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 		throw new ParseException(this, "Unexpected condition.");
 	}
 
+	/*
+	 * Returns the marked characters in the reader, reusing the matching property name on the bean if there is one.
+	 */
+	private static String getMarked(UonReader r, BeanMeta<?> bm) {
+		if (bm == null)
+			return r.getMarked();
+		CharSequence cs = r.getMarkedView(0, 0);
+		String s = bm.getPropertyName(cs);
+		return s == null ? cs.toString() : s;
+	}
 
 	/*
 	 * Returns true if the next character in the stream is preceded by an escape '~' character.
@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.uon;
 
+import java.io.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.serializer.*;
@@ -311,6 +313,8 @@ public class UonSerializer extends WriterSerializer implements HttpPartSerialize
 	private final ParamFormat
 		paramFormat;
 
+	private final RenderedValueCache renderedValues;
+
 	/**
 	 * Constructor.
 	 *
@@ -352,6 +356,12 @@ public class UonSerializer extends WriterSerializer implements HttpPartSerialize
 		encodeChars = getBooleanProperty(UON_encoding, false);
 		addBeanTypes = getBooleanProperty(UON_addBeanTypes, getBooleanProperty(SERIALIZER_addBeanTypes, false));
 		paramFormat = getProperty(UON_paramFormat, ParamFormat.class, ParamFormat.UON);
+		renderedValues = new RenderedValueCache() {
+			@Override /* RenderedValueCache */
+			protected void render(Writer w, String value) throws IOException {
+				new UonWriter(null, w, false, 0, encodeChars, isTrimStrings(), paramFormat == ParamFormat.PLAINTEXT, null).appendString(value, false);
+			}
+		};
 	}
 
 	@Override /* Context */
@@ -375,6 +385,15 @@ public class UonSerializer extends WriterSerializer implements HttpPartSerialize
 		return new UonSerializerBuilder();
 	}
 
+	/**
+	 * Returns the cache of rendered enum constants and bean dictionary names for this serializer.
+	 *
+	 * @return The cache.  Never <jk>null</jk>.
+	 */
+	final RenderedValueCache getRenderedValues() {
+		return renderedValues;
+	}
+
 
 	//-----------------------------------------------------------------------------------------------------------------
 	// Entry point methods
@@ -32,6 +32,7 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 
 	private final UonSerializer ctx;
 	private final boolean plainTextParams;
+	private boolean useRenderedValues = true;
 
 	/**
 	 * @param ctx
@@ -66,6 +67,10 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 	 */
 	protected final UonWriter getUonWriter(SerializerPipe out) throws Exception {
 		Object output = out.getRawOutput();
+
+		// Cached enum values and type names are rendered using the settings of this serializer, so they can't be
+		// used on a UonWriter that was passed in as the output.
+		useRenderedValues = ! (output instanceof UonWriter);
 		if (output instanceof UonWriter)
 			return (UonWriter)output;
 		UonWriter w = new UonWriter(this, out.getWriter(), isUseWhitespace(), getMaxIndent(), isEncodeChars(), isTrimStrings(), plainTextParams, getUriResolver());
@@ -159,9 +164,20 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 		else if (sType.isArray()) {
 			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
 		}
+		else if (sType.isStreamable()) {
+			serializeCollection(out, toStreamingCollection(o, out), eType);
+		}
 		else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
 		}
+		else if (sType.isEnum() && useRenderedValues) {
+			String s = sType.toString(o);
+			char[] c = ctx.getRenderedValues().getEnum(sType, (Enum<?>)o, s);
+			if (c != null)
+				out.append(c);
+			else
+				out.appendString(s, false);
+		}
 		else {
 			out.appendObject(o, false);
 		}
@@ -228,7 +244,10 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 
 				out.cr(indent).appendObject(key, false).append('=');
 
-				serializeAnything(out, value, cMeta, key, pMeta);
+				if (useRenderedValues && value == typeName && pMeta == m.getMeta().getTypeProperty() && cMeta.getPojoSwap(this) == null)
+					out.append(ctx.getRenderedValues().getName(toString(typeName)));
+				else
+					serializeAnything(out, value, cMeta, key, pMeta);
 
 				addComma = true;
 			}
@@ -83,7 +83,18 @@ public final class UonWriter extends SerializerWriter {
 		if (o == null)
 			return append("null");
 
-		String s = session.toString(o);
+		return appendString(session.toString(o), isTopAttrName);
+	}
+
+	/**
+	 * Serializes the specified string as a UON string value.
+	 *
+	 * @param s The string being serialized.
+	 * @param isTopAttrName If this is a top-level attribute name we're serializing.
+	 * @return This object (for method chaining).
+	 * @throws IOException Should never happen.
+	 */
+	public final UonWriter appendString(String s, boolean isTopAttrName) throws IOException {
 
 		boolean needsQuotes = (! plainTextParams) && UonUtils.needsQuotes(s);
 
@@ -145,7 +156,7 @@ public final class UonWriter extends SerializerWriter {
 	 * @throws IOException
 	 */
 	protected UonWriter appendNumber(Object o) throws IOException {
-		append(o.toString());
+		super.appendNumber((Number)o);
 		return this;
 	}
 
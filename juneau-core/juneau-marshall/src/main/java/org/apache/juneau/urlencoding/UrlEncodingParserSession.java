@@ -273,7 +273,7 @@ public class UrlEncodingParserSession extends UonParserSession {
 						}
 						r.unread();
 						mark();
-						currAttr = parseAttrName(r, true);
+						currAttr = parseAttrName(r, true, m.getMeta());
 						if (currAttr == null)  // Value was '%00'
 							return null;
 						state = S2;
@@ -12,9 +12,13 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.xml;
 
+import static org.apache.juneau.internal.IOUtils.*;
+
+import java.io.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.xml.annotation.*;
 
 /**
@@ -32,6 +36,10 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 	private XmlFormat xmlFormat = XmlFormat.DEFAULT;
 	private String childName;
 
+	// UTF-8 encoded start tags (e.g. "<name" and "<ns:name") and end tags (e.g. "</name>" and "</ns:name>") of the
+	// element of this property, without and with the namespace prefix.
+	private byte[] startTag, endTag, nsStartTag, nsEndTag;
+
 	/**
 	 * Constructor.
 	 *
@@ -49,6 +57,14 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 
 		if (namespace == null)
 			namespace = bpm.getBeanMeta().getClassMeta().getExtendedMeta(XmlClassMeta.class).getNamespace();
+
+		String en = encodeElementName(bpm.getName());
+		startTag = ("<" + en).getBytes(UTF8);
+		endTag = ("</" + en + ">").getBytes(UTF8);
+		if (namespace != null && namespace.name != null) {
+			nsStartTag = ("<" + namespace.name + ":" + en).getBytes(UTF8);
+			nsEndTag = ("</" + namespace.name + ":" + en + ">").getBytes(UTF8);
+		}
 	}
 
 	private XmlBeanPropertyMeta() {
@@ -96,6 +112,46 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 		return childName;
 	}
 
+	/**
+	 * Returns the UTF-8 encoded start tag of the element of this property without the closing <js>'>'</js>.
+	 *
+	 * @param name The element name.  Must be the name of this property for a tag to be returned.
+	 * @param prefix The namespace prefix to write on the element, or <jk>null</jk> if none.
+	 * @return The encoded tag, or <jk>null</jk> if no tag was computed for the specified name and prefix.
+	 */
+	byte[] getStartTag(String name, String prefix) {
+		return getTag(name, prefix, startTag, nsStartTag);
+	}
+
+	/**
+	 * Returns the UTF-8 encoded end tag of the element of this property.
+	 *
+	 * @param name The element name.  Must be the name of this property for a tag to be returned.
+	 * @param prefix The namespace prefix to write on the element, or <jk>null</jk> if none.
+	 * @return The encoded tag, or <jk>null</jk> if no tag was computed for the specified name and prefix.
+	 */
+	byte[] getEndTag(String name, String prefix) {
+		return getTag(name, prefix, endTag, nsEndTag);
+	}
+
+	private byte[] getTag(String name, String prefix, byte[] tag, byte[] nsTag) {
+		if (tag == null || ! name.equals(getBeanPropertyMeta().getName()))
+			return null;
+		if (prefix == null)
+			return tag;
+		if (nsTag != null && prefix.equals(namespace.name))
+			return nsTag;
+		return null;
+	}
+
+	private static String encodeElementName(String name) {
+		try (Writer w = new StringBuilderWriter(name.length())) {
+			return XmlUtils.encodeElementName(w, name).toString();
+		} catch (IOException e) {
+			throw new RuntimeException(e); // Never happens
+		}
+	}
+
 	private void findXmlInfo(Xml xml) {
 		if (xml == null)
 			return;
@@ -31,6 +31,8 @@ public class XmlClassMeta extends ClassMetaExtended {
 	private final Xml xml;
 	private final XmlFormat format;
 	private final String childName;
+	private volatile Namespace[] reachableNamespaces;
+	private boolean untypedValues;  // Set before reachableNamespaces is published.
 
 	/**
 	 * Constructor.
@@ -100,6 +102,99 @@ public class XmlClassMeta extends ClassMetaExtended {
 		return namespace;
 	}
 
+	/**
+	 * Returns the XML namespaces that can be encountered when serializing an instance of this class.
+	 *
+	 * <p>
+	 * Consists of the namespace of this class followed by the namespaces of the bean properties, collection entries,
+	 * and map values reachable through the declared types of this class, in the order they're encountered.
+	 * <br>Namespaces of values whose type can't be determined from the declared types (e.g. properties of type
+	 * <code>Object</code>) are not included.
+	 * See {@link #hasUntypedValues()}.
+	 *
+	 * <p>
+	 * The namespaces are computed on the first call and cached.
+	 *
+	 * @return The namespaces that have URIs defined.  Never <jk>null</jk>.
+	 */
+	public Namespace[] getReachableNamespaces() {
+		Namespace[] n = reachableNamespaces;
+		if (n == null) {
+			List<Namespace> l = new ArrayList<>();
+			untypedValues = findReachableNamespaces(getClassMeta(), l, Collections.newSetFromMap(new IdentityHashMap<ClassMeta<?>,Boolean>()));
+			n = reachableNamespaces = l.toArray(new Namespace[l.size()]);
+		}
+		return n;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if an instance of this class can contain values whose type can't be determined from the
+	 * declared types.
+	 *
+	 * <p>
+	 * This is the case when a bean property, collection entry, or map value reachable from this class is declared as
+	 * <code>Object</code>, an unparameterized collection or map, or an abstract class or interface.
+	 * <br>The namespaces of such values are not included in {@link #getReachableNamespaces()} and must be found by
+	 * inspecting the values themselves.
+	 *
+	 * @return <jk>true</jk> if an instance of this class can contain values of undetermined types.
+	 */
+	public boolean hasUntypedValues() {
+		getReachableNamespaces();
+		return untypedValues;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if values declared with the specified type must be inspected to find all their namespaces.
+	 *
+	 * <p>
+	 * This is the case when the type itself is <code>Object</code> or an abstract class or interface, or when
+	 * {@link #hasUntypedValues()} is <jk>true</jk> for the type.
+	 *
+	 * @param cm The declared type of the value.
+	 * @return <jk>true</jk> if values of the specified type must be inspected.
+	 */
+	static boolean isUntyped(ClassMeta<?> cm) {
+		if (cm == null || cm.isObject())
+			return true;
+		if (cm.isPrimitive())
+			return false;
+		if (cm.isAbstract() && ! (cm.isCollectionOrArray() || cm.isMap()))
+			return true;
+		return cm.getExtendedMeta(XmlClassMeta.class).hasUntypedValues();
+	}
+
+	/*
+	 * Adds the namespaces reachable from the specified class to the list.
+	 * Returns true if a value of undetermined type is reachable from the class.
+	 */
+	private static boolean findReachableNamespaces(ClassMeta<?> cm, List<Namespace> l, Set<ClassMeta<?>> visited) {
+		if (cm == null || cm.isObject())
+			return true;
+		if (cm.isPrimitive() || ! visited.add(cm))
+			return false;
+		boolean untyped = cm.isAbstract() && ! (cm.isCollectionOrArray() || cm.isMap());
+		addNamespace(l, cm.getExtendedMeta(XmlClassMeta.class).getNamespace());
+		if (cm.isBean()) {
+			for (BeanPropertyMeta bpm : cm.getBeanMeta().getPropertyMetas()) {
+				if (bpm.canRead()) {
+					addNamespace(l, bpm.getExtendedMeta(XmlBeanPropertyMeta.class).getNamespace());
+					untyped |= findReachableNamespaces(bpm.getClassMeta(), l, visited);
+				}
+			}
+		} else if (cm.isCollectionOrArray()) {
+			untyped = findReachableNamespaces(cm.getElementType(), l, visited);
+		} else if (cm.isMap()) {
+			untyped = findReachableNamespaces(cm.getValueType(), l, visited);
+		}
+		return untyped;
+	}
+
+	private static void addNamespace(List<Namespace> l, Namespace ns) {
+		if (ns != null && ns.uri != null && ! l.contains(ns))
+			l.add(ns);
+	}
+
 	private static Namespace findNamespace(Class<?> c) {
 		if (c == null)
 			return null;
@@ -196,6 +196,7 @@ public class XmlParser extends ReaderParser {
 	private final XMLReporter reporter;
 	private final XMLResolver resolver;
 	private final XMLEventAllocator eventAllocator;
+	private final XMLInputFactory inputFactory;
 
 	/**
 	 * Constructor.
@@ -222,6 +223,26 @@ public class XmlParser extends ReaderParser {
 		reporter = getInstanceProperty(XML_reporter, XMLReporter.class, null);
 		resolver = getInstanceProperty(XML_resolver, XMLResolver.class, null);
 		eventAllocator = getInstanceProperty(XML_eventAllocator, XMLEventAllocator.class, null);
+		inputFactory = createInputFactory();
+	}
+
+	/*
+	 * Creates the factory shared by all sessions of this parser.
+	 * Factories are thread-safe once configured, and looking up and configuring a new one is expensive.
+	 */
+	private XMLInputFactory createInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.IS_VALIDATING, validating);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		if (factory.isPropertySupported(XMLInputFactory.REPORTER) && reporter != null)
+			factory.setProperty(XMLInputFactory.REPORTER, reporter);
+		if (factory.isPropertySupported(XMLInputFactory.RESOLVER) && resolver != null)
+			factory.setProperty(XMLInputFactory.RESOLVER, resolver);
+		if (factory.isPropertySupported(XMLInputFactory.ALLOCATOR) && eventAllocator != null)
+			factory.setProperty(XMLInputFactory.ALLOCATOR, eventAllocator);
+		return factory;
 	}
 
 	@Override /* Context */
@@ -310,6 +331,15 @@ public class XmlParser extends ReaderParser {
 		return eventAllocator;
 	}
 
+	/**
+	 * Returns the StAX factory configured with the settings on this parser.
+	 *
+	 * @return The StAX factory shared by all sessions of this parser.
+	 */
+	protected final XMLInputFactory getInputFactory() {
+		return inputFactory;
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
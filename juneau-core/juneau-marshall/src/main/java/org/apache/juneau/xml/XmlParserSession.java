@@ -71,7 +71,7 @@ public class XmlParserSession extends ReaderParserSession {
 	 * @throws Exception If problem occurred trying to create reader.
 	 */
 	protected final XmlReader getXmlReader(ParserPipe pipe) throws Exception {
-		return new XmlReader(pipe, isValidating(), getReporter(), getResolver(), getEventAllocator());
+		return new XmlReader(pipe, ctx.getInputFactory());
 	}
 
 	/**
@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.xml;
 
+import java.io.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.serializer.*;
@@ -244,6 +246,67 @@ public class XmlSerializer extends WriterSerializer {
 	 */
 	public static final String XML_defaultNamespace = PREFIX + "defaultNamespace.s";
 
+	/**
+	 * Configuration property:  Detect namespace usage from class metadata.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"XmlSerializer.detectNamespacesFromTypes.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link XmlSerializerBuilder#detectNamespacesFromTypes(boolean)}
+	 * 			<li class='jm'>{@link XmlSerializerBuilder#detectNamespacesFromTypes()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When {@link #XML_autoDetectNamespaces} is enabled, detect the namespaces from the class metadata of the
+	 * serialized object instead of crawling the data structure.
+	 *
+	 * <p>
+	 * The namespaces reachable through the declared types of the bean properties, collection entries, and map values
+	 * of a class are computed once per class and reused.
+	 * <br>The data structure is only crawled where the declared types can't determine the types of the values, such as
+	 * properties of type <code>Object</code> or the entries of untyped collections and maps.
+	 * <br>When the declared types of the serialized object are fully specified, the data structure is only traversed
+	 * once while it's being serialized.
+	 *
+	 * <p>
+	 * Namespaces that are reachable through the declared types but not used by the data structure being serialized
+	 * are also added to the root element.
+	 * <br>Subclasses of concrete property types are not inspected, so namespaces only used by such subclasses should be
+	 * manually defined through the {@link #XML_namespaces} property.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that detects namespaces without crawling the data structure.</jc>
+	 * 	WriterSerializer s = XmlSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.ns()
+	 * 		.addNamespaceUrisToRoot()
+	 * 		.detectNamespacesFromTypes()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = XmlSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.ns()
+	 * 		.addNamespaceUrisToRoot()
+	 * 		.set(<jsf>XML_detectNamespacesFromTypes</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='link'>{@doc juneau-marshall.XmlDetails.Namespaces}
+	 * </ul>
+	 */
+	public static final String XML_detectNamespacesFromTypes = PREFIX + "detectNamespacesFromTypes.b";
+
 	/**
 	 * Configuration property:  Enable support for XML namespaces.
 	 *
@@ -453,6 +516,7 @@ public class XmlSerializer extends WriterSerializer {
 
 	private final boolean
 		autoDetectNamespaces,
+		detectNamespacesFromTypes,
 		enableNamespaces,
 		addNamespaceUrlsToRoot,
 		addBeanTypes;
@@ -462,6 +526,7 @@ public class XmlSerializer extends WriterSerializer {
 	private final Namespace[] namespaces;
 
 	private volatile XmlSchemaSerializer schemaSerializer;
+	private final RenderedValueCache renderedValues;
 
 	/**
 	 * Constructor.
@@ -502,12 +567,19 @@ public class XmlSerializer extends WriterSerializer {
 	public XmlSerializer(PropertyStore ps, String produces, String accept) {
 		super(ps, produces, accept);
 		autoDetectNamespaces = getBooleanProperty(XML_autoDetectNamespaces, true);
+		detectNamespacesFromTypes = getBooleanProperty(XML_detectNamespacesFromTypes, false);
 		enableNamespaces = getBooleanProperty(XML_enableNamespaces, false);
 		addNamespaceUrlsToRoot = getBooleanProperty(XML_addNamespaceUrisToRoot, false);
 		defaultNamespace = getInstanceProperty(XML_defaultNamespace, Namespace.class, DEFAULT_JUNEAU_NAMESPACE);
 		addBeanTypes = getBooleanProperty(XML_addBeanTypes, getBooleanProperty(SERIALIZER_addBeanTypes, false));
 		xsNamespace = getInstanceProperty(XML_xsNamespace, Namespace.class, DEFAULT_XS_NAMESPACE);
 		namespaces = getInstanceArrayProperty(XML_namespaces, Namespace.class, new Namespace[0]);
+		renderedValues = new RenderedValueCache() {
+			@Override /* RenderedValueCache */
+			protected void render(Writer w, String value) throws IOException {
+				XmlUtils.encodeText(w, value, isTrimStrings(), false);
+			}
+		};
 	}
 
 	@Override /* Context */
@@ -541,6 +613,15 @@ public class XmlSerializer extends WriterSerializer {
 		return schemaSerializer;
 	}
 
+	/**
+	 * Returns the cache of rendered enum constants for this serializer.
+	 *
+	 * @return The cache.  Never <jk>null</jk>.
+	 */
+	final RenderedValueCache getRenderedValues() {
+		return renderedValues;
+	}
+
 	@Override /* Serializer */
 	public WriterSerializerSession createSession(SerializerSessionArgs args) {
 		return new XmlSerializerSession(this, args);
@@ -561,6 +642,17 @@ public class XmlSerializer extends WriterSerializer {
 		return autoDetectNamespaces;
 	}
 
+	/**
+	 * Configuration property:  Detect namespace usage from class metadata.
+	 *
+	 * @see #XML_detectNamespacesFromTypes
+	 * @return
+	 * 	<jk>true</jk> if namespace usage is detected from the class metadata instead of crawling the data structure.
+	 */
+	protected final boolean isDetectNamespacesFromTypes() {
+		return detectNamespacesFromTypes;
+	}
+
 	/**
 	 * Configuration property:  Enable support for XML namespaces.
 	 *
@@ -635,6 +727,7 @@ public class XmlSerializer extends WriterSerializer {
 		return super.asMap()
 			.append("XmlSerializer", new ObjectMap()
 				.append("autoDetectNamespaces", autoDetectNamespaces)
+				.append("detectNamespacesFromTypes", detectNamespacesFromTypes)
 				.append("enableNamespaces", enableNamespaces)
 				.append("addNamespaceUrlsToRoot", addNamespaceUrlsToRoot)
 				.append("defaultNamespace", defaultNamespace)
@@ -128,6 +128,43 @@ public class XmlSerializerBuilder extends WriterSerializerBuilder {
 		return set(XML_defaultNamespace, value);
 	}
 
+	/**
+	 * Configuration property:  Detect namespace usage from class metadata.
+	 *
+	 * <p>
+	 * Detect namespace usage from the class metadata of the serialized object instead of crawling the data structure.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link XmlSerializer#XML_detectNamespacesFromTypes}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public XmlSerializerBuilder detectNamespacesFromTypes(boolean value) {
+		return set(XML_detectNamespacesFromTypes, value);
+	}
+
+	/**
+	 * Configuration property:  Detect namespace usage from class metadata.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>detectNamespacesFromTypes(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link XmlSerializer#XML_detectNamespacesFromTypes}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public XmlSerializerBuilder detectNamespacesFromTypes() {
+		return set(XML_detectNamespacesFromTypes, true);
+	}
+
 	/**
 	 * Configuration property:  Enable support for XML namespaces.
 	 *
@@ -322,6 +359,12 @@ public class XmlSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public XmlSerializerBuilder recursionCheckDepth(int value) {
+		super.recursionCheckDepth(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public XmlSerializerBuilder sortCollections(boolean value) {
 		super.sortCollections(value);
@@ -346,6 +389,18 @@ public class XmlSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public XmlSerializerBuilder poolSessions(boolean value) {
+		super.poolSessions(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public XmlSerializerBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public XmlSerializerBuilder trimEmptyCollections(boolean value) {
 		super.trimEmptyCollections(value);
@@ -736,6 +791,18 @@ public class XmlSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public XmlSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public XmlSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public XmlSerializerBuilder set(String name, Object value) {
 		super.set(name, value);
@@ -41,6 +41,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 	private Namespace
 		defaultNamespace;
 	private Namespace[] namespaces = new Namespace[0];
+	private boolean useRenderedValues = true;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -57,10 +58,20 @@ public class XmlSerializerSession extends WriterSerializerSession {
 	protected XmlSerializerSession(XmlSerializer ctx, SerializerSessionArgs args) {
 		super(ctx, args);
 		this.ctx = ctx;
+		initNamespaces();
+	}
+
+	private void initNamespaces() {
 		namespaces = getInstanceArrayProperty(XML_namespaces, Namespace.class, ctx.getNamespaces());
 		defaultNamespace = findDefaultNamespace(getInstanceProperty(XML_defaultNamespace, Namespace.class, ctx.getDefaultNamespace()));
 	}
 
+	@Override /* Session */
+	public void resetSession() {
+		super.resetSession();
+		initNamespaces();
+	}
+
 	private Namespace findDefaultNamespace(Namespace n) {
 		if (n == null)
 			return null;
@@ -127,6 +138,10 @@ public class XmlSerializerSession extends WriterSerializerSession {
 	 */
 	public final XmlWriter getXmlWriter(SerializerPipe out) throws Exception {
 		Object output = out.getRawOutput();
+
+		// Cached enum values are rendered using the settings of this serializer, so they can't be used on an
+		// XmlWriter that was passed in as the output.
+		useRenderedValues = ! (output instanceof XmlWriter);
 		if (output instanceof XmlWriter)
 			return (XmlWriter)output;
 		XmlWriter w = new XmlWriter(out.getWriter(), isUseWhitespace(), getMaxIndent(), isTrimStrings(), getQuoteChar(), getUriResolver(), isEnableNamespaces(), defaultNamespace);
@@ -136,8 +151,12 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 	@Override /* Serializer */
 	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
-		if (isEnableNamespaces() && isAutoDetectNamespaces())
-			findNsfMappings(o);
+		if (isEnableNamespaces() && isAutoDetectNamespaces()) {
+			if (isDetectNamespacesFromTypes())
+				findTypeNsfMappings(o);
+			else
+				findNsfMappings(o);
+		}
 		serializeAnything(getXmlWriter(out), o, getExpectedRootType(o), null, null, isEnableNamespaces() && isAddNamespaceUrlsToRoot(), XmlFormat.DEFAULT, false, false, null);
 	}
 
@@ -230,6 +249,76 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		pop();
 	}
 
+	/**
+	 * Adds the XML namespaces reachable through the class metadata of the specified POJO to the serializer context
+	 * object.
+	 *
+	 * <p>
+	 * Only the bean properties, collection entries, and map values whose declared types can't determine the
+	 * namespaces of their values are visited, such as the values of properties of type <code>Object</code>.
+	 * <br>Values of other declared types are covered by {@link XmlClassMeta#getReachableNamespaces()} and are skipped.
+	 *
+	 * @param o The POJO to check.
+	 * @throws SerializeException If a recursive reference was found in the POJO.
+	 */
+	protected final void findTypeNsfMappings(Object o) throws SerializeException {
+		ClassMeta<?> aType = null;						// The actual type
+
+		try {
+			aType = push(null, o, null);
+		} catch (BeanRecursionException e) {
+			throw new SerializeException(e);
+		}
+
+		if (aType != null && ! aType.isPrimitive()) {
+			ClassMeta<?> cm = aType;
+			if (aType.isBeanMap())
+				cm = ((BeanMap<?>)o).getClassMeta();
+			else if (aType.isDelegate())
+				cm = ((Delegate<?>)o).getClassMeta();
+
+			XmlClassMeta xcm = cXml(cm);
+			for (Namespace ns : xcm.getReachableNamespaces())
+				addNamespace(ns);
+
+			// Only look at the values if their types can't be determined from the class metadata.
+			if (xcm.hasUntypedValues()) {
+				BeanMap<?> bm = null;
+				if (aType.isBeanMap())
+					bm = (BeanMap<?>)o;
+				else if (aType.isBean())
+					bm = toBeanMap(o);
+				else if (cm.isMap()) {
+					if (XmlClassMeta.isUntyped(cm.getValueType()))
+						for (Object o2 : ((Map<?,?>)o).values())
+							findTypeNsfMappings(o2);
+				} else if (cm.isCollection()) {
+					if (XmlClassMeta.isUntyped(cm.getElementType()))
+						for (Object o2 : ((Collection<?>)o))
+							findTypeNsfMappings(o2);
+				} else if (aType.isArray()) {
+					if (! aType.getElementType().isPrimitive() && XmlClassMeta.isUntyped(aType.getElementType()))
+						for (Object o2 : ((Object[])o))
+							findTypeNsfMappings(o2);
+				}
+
+				if (bm != null) {
+					for (BeanPropertyValue p : bm.getValues(isTrimNullProperties())) {
+						if (XmlClassMeta.isUntyped(p.getMeta().getClassMeta())) {
+							try {
+								findTypeNsfMappings(p.getValue());
+							} catch (Throwable x) {
+								// Ignore
+							}
+						}
+					}
+				}
+			}
+		}
+
+		pop();
+	}
+
 	/**
 	 * Workhorse method.
 	 *
@@ -296,6 +385,12 @@ public class XmlSerializerSession extends WriterSerializerSession {
 				if (sType.isObject())
 					sType = getClassMetaForObject(o);
 			}
+
+			// Iterators, enumerations and streams are written element-by-element as arrays.
+			if (sType.isStreamable()) {
+				o = toStreamingCollection(o, out);
+				sType = getClassMetaForObject(o);
+			}
 		} else {
 			sType = eType.getSerializedClassMeta(this);
 		}
@@ -387,10 +482,16 @@ public class XmlSerializerSession extends WriterSerializerSession {
 				elementNamespace = null;
 		}
 
+		// The precomputed tags of the bean property being serialized, if any.
+		XmlBeanPropertyMeta tagMeta = pMeta == null || ! encodeEn ? null : bpXml(pMeta);
+
 		// Render the start tag.
 		if (! isCollapsed) {
 			if (en != null) {
-				out.oTag(i, elementNs, en, encodeEn);
+				if (tagMeta != null)
+					out.oTag(i, elementNs, en, tagMeta);
+				else
+					out.oTag(i, elementNs, en, encodeEn);
 				if (addNamespaceUris) {
 					out.attr((String)null, "xmlns", defaultNamespace.getUri());
 
@@ -429,7 +530,9 @@ public class XmlSerializerSession extends WriterSerializerSession {
 					out.append(o);
 				else
 					out.text(o, preserveWhitespace);
-			} else if (sType.isNumber() || sType.isBoolean()) {
+			} else if (sType.isNumber()) {
+				out.appendNumber((Number)o);
+			} else if (sType.isBoolean()) {
 				out.append(o);
 			} else if (sType.isMap() || (wType != null && wType.isMap())) {
 				if (o instanceof BeanMap)
@@ -452,6 +555,13 @@ public class XmlSerializerSession extends WriterSerializerSession {
 					this.indent++;
 			} else if (sType.isReader() || sType.isInputStream()) {
 				IOUtils.pipe(o, out);
+			} else if (sType.isEnum() && useRenderedValues && ! isXmlText(format, sType)) {
+				String s = sType.toString(o);
+				char[] c = ctx.getRenderedValues().getEnum(sType, (Enum<?>)o, s);
+				if (c != null)
+					out.append(c);
+				else
+					out.text(s);
 			} else {
 				if (isXmlText(format, sType))
 					out.append(toString(o));
@@ -467,14 +577,14 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			if (en != null) {
 				if (rc == CR_EMPTY) {
 					if (isHtmlMode())
-						out.append('>').eTag(elementNs, en, encodeEn);
+						eTag(out.append('>'), elementNs, en, encodeEn, tagMeta);
 					else
 						out.append('/').append('>');
 				} else if (rc == CR_VOID || o == null) {
 					out.append('/').append('>');
 				}
 				else
-					out.ie(cr && rc != CR_MIXED ? i : 0).eTag(elementNs, en, encodeEn);
+					eTag(out.ie(cr && rc != CR_MIXED ? i : 0), elementNs, en, encodeEn, tagMeta);
 			}
 			if (! isMixed)
 				out.nl(i);
@@ -483,6 +593,13 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		return rc;
 	}
 
+	private static void eTag(XmlWriter out, String ns, String name, boolean needsEncoding, XmlBeanPropertyMeta tagMeta) throws Exception {
+		if (tagMeta != null)
+			out.eTag(ns, name, tagMeta);
+		else
+			out.eTag(ns, name, needsEncoding);
+	}
+
 	private boolean isXmlText(XmlFormat format, ClassMeta<?> sType) {
 		if (format == XMLTEXT)
 			return true;
@@ -754,6 +871,17 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		return ctx.isAutoDetectNamespaces();
 	}
 
+	/**
+	 * Configuration property:  Detect namespace usage from class metadata.
+	 *
+	 * @see XmlSerializer#XML_detectNamespacesFromTypes
+	 * @return
+	 * 	<jk>true</jk> if namespace usage is detected from the class metadata instead of crawling the data structure.
+	 */
+	protected final boolean isDetectNamespacesFromTypes() {
+		return ctx.isDetectNamespacesFromTypes();
+	}
+
 	/**
 	 * Configuration property:  Enable support for XML namespaces.
 	 *
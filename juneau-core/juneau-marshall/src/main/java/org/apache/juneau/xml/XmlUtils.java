@@ -193,28 +193,45 @@ public final class XmlUtils {
 		if (trim)
 			s = s.trim();
 
-		if (needsTextEncoding(s)) {
-			final int len = s.length();
-			for (int i = 0; i < len; i++) {
-				char c = s.charAt(i);
-				if ((i == 0 || i == len-1) && Character.isWhitespace(c) && ! preserveWhitespace)
-					appendPaddedHexChar(w, c);
-				else if (REPLACE_TEXT.contains(c))
-					w.append(REPLACE_TEXT.get(c));
-				else if (c == '_' && isEscapeSequence(s,i))
-					appendPaddedHexChar(w, c);
-				else if (isValidXmlCharacter(c))
-					w.append(c);
-				else
-					appendPaddedHexChar(w, c);
+		// Runs of characters that don't need encoding are written in a single call.
+		final int len = s.length();
+		int start = 0;
+		for (int i = 0; i < len; i++) {
+			char c = s.charAt(i);
+			if (i != 0 && i != len-1 && (c < 0x80 ? ! TEXT_SPECIAL[c] : isValidXmlCharacter(c)))
+				continue;
+			String r = null;
+			if ((i == 0 || i == len-1) && Character.isWhitespace(c) && ! preserveWhitespace)
+				r = toPaddedHexChar(c);
+			else if (REPLACE_TEXT.contains(c))
+				r = REPLACE_TEXT.get(c);
+			else if (c == '_' && isEscapeSequence(s,i))
+				r = toPaddedHexChar(c);
+			else if (! isValidXmlCharacter(c))
+				r = toPaddedHexChar(c);
+			if (r != null) {
+				if (i > start)
+					w.write(s, start, i - start);
+				w.write(r);
+				start = i + 1;
 			}
-		} else {
-			w.append(s);
 		}
+		if (start == 0)
+			w.append(s);
+		else if (start < len)
+			w.write(s, start, len - start);
 
 		return w;
 	}
 
+	// ASCII characters that may need encoding in text.
+	private static final boolean[] TEXT_SPECIAL = new boolean[0x80];
+	static {
+		for (int i = 0; i < 0x20; i++)
+			TEXT_SPECIAL[i] = true;
+		TEXT_SPECIAL['&'] = TEXT_SPECIAL['<'] = TEXT_SPECIAL['>'] = TEXT_SPECIAL['_'] = true;
+	}
+
 	private static final boolean needsTextEncoding(String s) {
 		// See if we need to convert the string.
 		// Conversion is somewhat expensive, so make sure we need to do so before hand.
@@ -470,6 +487,11 @@ public final class XmlUtils {
 		return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'F');
 	}
 
+	// Converts an integer to a "_x####_" sequence.
+	private static final String toPaddedHexChar(int num) {
+		return new StringBuilder(7).append("_x").append(toHex4(num)).append('_').toString();
+	}
+
 	// Converts an integer to a hexadecimal string padded to 4 places.
 	private static final Writer appendPaddedHexChar(Writer out, int num) throws IOException {
 		out.append("_x");
@@ -16,6 +16,7 @@ import java.io.*;
 import java.net.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.serializer.*;
 import org.apache.juneau.xml.annotation.*;
 
@@ -32,6 +33,7 @@ public class XmlWriter extends SerializerWriter {
 
 	private String defaultNsPrefix;
 	private boolean enableNs;
+	private final Utf8OutputStreamWriter utf8;  // Set when encoding directly to an output stream.
 
 	/**
 	 * Constructor.
@@ -50,6 +52,56 @@ public class XmlWriter extends SerializerWriter {
 		super(out, useWhitespace, maxIndent, trimStrings, quoteChar, uriResolver);
 		this.enableNs = enableNs;
 		this.defaultNsPrefix = defaultNamespace == null ? null : defaultNamespace.name;
+		this.utf8 = out instanceof Utf8OutputStreamWriter ? (Utf8OutputStreamWriter)out : null;
+	}
+
+	/**
+	 * Shortcut for <code>i(indent).oTag(ns, name, <jk>true</jk>);</code> for the element of a bean property.
+	 *
+	 * <p>
+	 * When encoding directly to an output stream, the precomputed UTF-8 bytes of the tag are written instead.
+	 *
+	 * @param indent The number of prefix tabs to add.
+	 * @param ns The namespace.  Can be <jk>null</jk>.
+	 * @param name The element name.
+	 * @param bpXml The XML metadata of the bean property.
+	 * @return This object (for method chaining).
+	 * @throws IOException If a problem occurred.
+	 */
+	public XmlWriter oTag(int indent, String ns, String name, XmlBeanPropertyMeta bpXml) throws IOException {
+		byte[] b = utf8 == null ? null : bpXml.getStartTag(name, prefix(ns));
+		if (b == null)
+			return oTag(indent, ns, name, true);
+		i(indent);
+		utf8.writeBytes(b);
+		return this;
+	}
+
+	/**
+	 * Shortcut for <code>eTag(ns, name, <jk>true</jk>);</code> for the element of a bean property.
+	 *
+	 * <p>
+	 * When encoding directly to an output stream, the precomputed UTF-8 bytes of the tag are written instead.
+	 *
+	 * @param ns The namespace.  Can be <jk>null</jk>.
+	 * @param name The element name.
+	 * @param bpXml The XML metadata of the bean property.
+	 * @return This object (for method chaining).
+	 * @throws IOException If a problem occurred.
+	 */
+	public XmlWriter eTag(String ns, String name, XmlBeanPropertyMeta bpXml) throws IOException {
+		byte[] b = utf8 == null ? null : bpXml.getEndTag(name, prefix(ns));
+		if (b == null)
+			return eTag(ns, name, true);
+		utf8.writeBytes(b);
+		return this;
+	}
+
+	/*
+	 * Returns the namespace prefix to write on an element or attribute in the specified namespace, or null if none.
+	 */
+	private String prefix(String ns) {
+		return enableNs && ns != null && ! (ns.isEmpty() || ns.equals(defaultNsPrefix)) ? ns : null;
 	}
 
 	/**
@@ -661,6 +713,12 @@ public class XmlWriter extends SerializerWriter {
 		return this;
 	}
 
+	@Override /* SerializerWriter */
+	public XmlWriter appendNumber(Number n) throws IOException {
+		super.appendNumber(n);
+		return this;
+	}
+
 	@Override /* SerializerWriter */
 	public XmlWriter append(char c) throws IOException {
 		out.write(c);
@@ -74,6 +74,18 @@ public class XmlSchemaSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* XmlSerializerBuilder */
+	public XmlSchemaSerializerBuilder detectNamespacesFromTypes(boolean value) {
+		super.detectNamespacesFromTypes(value);
+		return this;
+	}
+
+	@Override /* XmlSerializerBuilder */
+	public XmlSchemaSerializerBuilder detectNamespacesFromTypes() {
+		super.detectNamespacesFromTypes();
+		return this;
+	}
+
 	@Override /* XmlSerializerBuilder */
 	public XmlSchemaSerializerBuilder enableNamespaces(boolean value) {
 		super.enableNamespaces(value);
@@ -157,6 +169,12 @@ public class XmlSchemaSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public XmlSchemaSerializerBuilder recursionCheckDepth(int value) {
+		super.recursionCheckDepth(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public XmlSchemaSerializerBuilder maxIndent(int value) {
 		super.maxIndent(value);
@@ -193,6 +211,18 @@ public class XmlSchemaSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public XmlSchemaSerializerBuilder poolSessions(boolean value) {
+		super.poolSessions(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public XmlSchemaSerializerBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public XmlSchemaSerializerBuilder sq() {
 		super.sq();
@@ -607,6 +637,18 @@ public class XmlSchemaSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public XmlSchemaSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public XmlSchemaSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public XmlSchemaSerializerBuilder set(String name, Object value) {
 		super.set(name, value);
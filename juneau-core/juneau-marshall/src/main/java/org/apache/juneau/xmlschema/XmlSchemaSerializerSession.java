@@ -57,8 +57,12 @@ public class XmlSchemaSerializerSession extends XmlSerializerSession {
 
 	@Override /* SerializerSession */
 	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
-		if (isEnableNamespaces() && isAutoDetectNamespaces())
-			findNsfMappings(o);
+		if (isEnableNamespaces() && isAutoDetectNamespaces()) {
+			if (isDetectNamespacesFromTypes())
+				findTypeNsfMappings(o);
+			else
+				findNsfMappings(o);
+		}
 
 		Namespace xs = getXsNamespace();
 		Namespace[] allNs = append(new Namespace[]{getDefaultNamespace()}, getNamespaces());
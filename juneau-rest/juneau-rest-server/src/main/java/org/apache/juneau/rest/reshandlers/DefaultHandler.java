@@ -163,6 +163,12 @@ public class DefaultHandler implements ResponseHandler {
 						os.flush();
 						os.finish();
 					}
+				} else if ("UTF-8".equalsIgnoreCase(res.getCharacterEncoding())) {
+					// Let the serializer encode directly to the output stream.
+					FinishableServletOutputStream os = res.getNegotiatedOutputStream();
+					session.serialize(o, os);
+					os.flush();
+					os.finish();
 				} else {
 					FinishablePrintWriter w = res.getNegotiatedWriter();
 					session.serialize(o, w);